@@ -0,0 +1,69 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.PackedBoardStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1000x1000 보드에서 지뢰 밀도별로 세 가지 생성 방식을 비교해 {@link BoardGenerationStrategy} 의 경계값을 정한다.
+ * 경계값은 순차 초기화 기준으로 정하고, 병렬 초기화는 STREAMING / DENSE 가 얼마나 빨라지는지 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardGeneratorBenchmark {
+
+    private static final int ROW_SIZE = 1_000;
+    private static final int COL_SIZE = 1_000;
+
+    @Param({"0.01", "0.05", "0.1", "0.2", "0.35", "0.5", "0.7", "0.8", "0.85", "0.9", "0.95"})
+    private double density;
+
+    @Param({"SPARSE", "STREAMING", "DENSE"})
+    private BoardGenerationStrategy strategy;
+
+    @Param({"SEQUENTIAL", "PARALLEL"})
+    private BoardInitializationMode initializationMode;
+
+    private BoardGenerator boardGenerator;
+    private PackedBoardStorage boardStorage;
+    private SurroundedIndexes surroundedIndexes;
+    private int landMineCount;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boardGenerator = strategy.createGenerator(initializationMode);
+        boardStorage = PackedBoardStorage.of(ROW_SIZE, COL_SIZE);
+        surroundedIndexes = SurroundedIndexes.of(ROW_SIZE, COL_SIZE);
+        landMineCount = (int) (ROW_SIZE * COL_SIZE * density);
+    }
+
+    @Setup(Level.Invocation)
+    public void clear() {
+        boardStorage.clear();
+    }
+
+    @Benchmark
+    public PackedBoardStorage generate() {
+        boardGenerator.generate(boardStorage, surroundedIndexes, landMineCount, new SplittableRandom(seed++));
+        return boardStorage;
+    }
+}
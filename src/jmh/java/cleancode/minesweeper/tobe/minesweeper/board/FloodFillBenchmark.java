@@ -0,0 +1,84 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.PackedBoardStorage;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지뢰가 드문 보드에서 첫 수로 가운데 셀을 열 때의 비용을,
+ * 방문 비트맵 BFS({@link FloodFillRevealer})와 이전의 중복 push 스택 방식으로 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FloodFillBenchmark {
+
+    @Param({"ADVANCED", "LARGE", "HUGE_SPARSE"})
+    private BenchmarkLevel level;
+
+    private GameBoard gameBoard;
+    private BoardStorage boardStorage;
+    private SurroundedIndexes surroundedIndexes;
+    private CellPosition centerPosition;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        GameLevel gameLevel = level.getGameLevel();
+        gameBoard = new GameBoard(gameLevel, (rowSize, colSize) -> boardStorage = PackedBoardStorage.of(rowSize, colSize));
+        gameBoard.initializeGame();
+        surroundedIndexes = SurroundedIndexes.of(gameLevel.getRowSize(), gameLevel.getColSize());
+        centerPosition = CellPosition.of(gameLevel.getRowSize() / 2, gameLevel.getColSize() / 2);
+    }
+
+    @Benchmark
+    public RevealedCells visitedBitmapBfs() {
+        return gameBoard.openAt(centerPosition);
+    }
+
+    @Benchmark
+    public int duplicatePushStack() {
+        Deque<Integer> stack = new ArrayDeque<>();
+        stack.push(centerPosition.getRowIndex() * boardStorage.getColSize() + centerPosition.getColIndex());
+        int[] surroundedIndexBuffer = new int[SurroundedIndexes.MAX_SURROUNDED_COUNT];
+
+        int openedCount = 0;
+        while (!stack.isEmpty()) {
+            int index = stack.pop();
+            if (boardStorage.isOpenedAt(index) || boardStorage.isLandMineAt(index)) {
+                continue;
+            }
+            boardStorage.openAt(index);
+            openedCount++;
+            if (boardStorage.hasLandMineCountAt(index)) {
+                continue;
+            }
+            int surroundedCount = surroundedIndexes.findAround(index, surroundedIndexBuffer);
+            for (int i = 0; i < surroundedCount; i++) {
+                stack.push(surroundedIndexBuffer[i]);
+            }
+        }
+        return openedCount;
+    }
+}
@@ -0,0 +1,98 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.layout.BoardLayout;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레벨별 GameBoard 핵심 연산 기준선.
+ * flagAt 은 이미 깃발이 꽂힌 셀에 다시 꽂으므로 매 수마다 따라오는 게임 종료 판정 비용이 그대로 드러난다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBoardBenchmark {
+
+    private static final long SEED = 42L;
+
+    @State(Scope.Thread)
+    public static class InitializedBoard {
+
+        @Param({"VERY_BEGINNER", "BEGINNER", "MIDDLE", "ADVANCED", "LARGE", "HUGE_SPARSE", "HUGE_DENSE"})
+        private BenchmarkLevel level;
+
+        private GameBoard gameBoard;
+        private BoardLayout boardLayout;
+        private CellPosition cornerPosition;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            boardLayout = BoardLayout.generate(level.getGameLevel(), SEED);
+            gameBoard = new GameBoard(level.getGameLevel(), SEED);
+            gameBoard.initializeGame();
+            cornerPosition = CellPosition.of(0, 0);
+            gameBoard.flagAt(cornerPosition);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FreshBoard {
+
+        @Param({"VERY_BEGINNER", "BEGINNER", "MIDDLE", "ADVANCED", "LARGE", "HUGE_SPARSE", "HUGE_DENSE"})
+        private BenchmarkLevel level;
+
+        private GameBoard gameBoard;
+        private CellPosition centerPosition;
+
+        @Setup(Level.Trial)
+        public void setUpBoard() {
+            GameLevel gameLevel = level.getGameLevel();
+            gameBoard = new GameBoard(gameLevel, SEED);
+            centerPosition = CellPosition.of(gameLevel.getRowSize() / 2, gameLevel.getColSize() / 2);
+        }
+
+        @Setup(Level.Invocation)
+        public void initializeGame() {
+            gameBoard.initializeGame();
+        }
+    }
+
+    @Benchmark
+    public GameBoard initializeGame(InitializedBoard state) {
+        state.gameBoard.initializeGame();
+        return state.gameBoard;
+    }
+
+    @Benchmark
+    public GameBoard copyFromCachedLayout(InitializedBoard state) {
+        return GameBoard.from(state.level.getGameLevel(), state.boardLayout);
+    }
+
+    @Benchmark
+    public RevealedCells openAtCenterOfFreshBoard(FreshBoard state) {
+        return state.gameBoard.openAt(state.centerPosition);
+    }
+
+    @Benchmark
+    public boolean flagAtAndCheckGameOver(InitializedBoard state) {
+        state.gameBoard.flagAt(state.cornerPosition);
+        return state.gameBoard.isInProgress();
+    }
+}
@@ -0,0 +1,78 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.PackedBoardStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 2000x2000 보드의 주변 지뢰 수 계산을 지뢰 밀도와 fork/join 스레드 수별로 재서 코어 수에 따른 확장성을 본다.
+ * 병렬 초기화 모드에서 STREAMING(지뢰 20% ~ 85%) / DENSE(85% 이상) 보드가 지뢰를 놓은 뒤 거치는 단계다.
+ * 지뢰 배치까지 합친 순차 / 병렬 비교는 BoardGeneratorBenchmark 에서 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelNearbyLandMineCountBenchmark {
+
+    private static final int ROW_SIZE = 2_000;
+    private static final int COL_SIZE = 2_000;
+    private static final long SEED = 42L;
+
+    @Param({"0.5", "0.9"})
+    private double density;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private ForkJoinPool forkJoinPool;
+    private ParallelNearbyLandMineCounter counter;
+    private BoardStorage boardStorage;
+    private SurroundedIndexes surroundedIndexes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        forkJoinPool = new ForkJoinPool(parallelism);
+        counter = new ParallelNearbyLandMineCounter(forkJoinPool);
+        surroundedIndexes = SurroundedIndexes.of(ROW_SIZE, COL_SIZE);
+
+        boardStorage = PackedBoardStorage.of(ROW_SIZE, COL_SIZE);
+        boardStorage.clear();
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int index = 0; index < ROW_SIZE * COL_SIZE; index++) {
+            if (random.nextDouble() < density) {
+                boardStorage.placeLandMineAt(index);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        forkJoinPool.shutdown();
+    }
+
+    @Benchmark
+    public BoardStorage countAll() {
+        counter.countAll(boardStorage, surroundedIndexes);
+        return boardStorage;
+    }
+}
@@ -0,0 +1,119 @@
+package cleancode.minesweeper.tobe.minesweeper.board.journal;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.MoveType;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저널 기록 비용(커밋 묶음 크기별)과 시드 + 저널로 게임을 되살리는 비용을 따로 잰다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveJournalBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int MOVE_COUNT = 1_000;
+
+    @State(Scope.Thread)
+    public static class RecordedGame {
+
+        @Param({"ADVANCED", "MILLION_CELLS"})
+        private BenchmarkLevel level;
+
+        private Path journalPath;
+        private ByteBuffer journalBytes;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            GameLevel gameLevel = level.getGameLevel();
+            GameBoard gameBoard = new GameBoard(gameLevel, SEED);
+            gameBoard.initializeGame();
+
+            journalPath = Files.createTempFile("minesweeper-journal", ".bin");
+            SplittableRandom random = new SplittableRandom(SEED);
+            try (MoveJournal moveJournal = MoveJournal.start(journalPath, gameBoard, MOVE_COUNT)) {
+                for (int i = 0; i < MOVE_COUNT; i++) {
+                    CellPosition cellPosition = CellPosition.of(random.nextInt(gameLevel.getRowSize()), random.nextInt(gameLevel.getColSize()));
+                    if (random.nextInt(5) == 0) {
+                        gameBoard.flagAt(cellPosition);
+                    } else {
+                        gameBoard.openAt(cellPosition);
+                    }
+                }
+            }
+
+            byte[] bytes = Files.readAllBytes(journalPath);
+            journalBytes = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(journalPath);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class OpenJournal {
+
+        @Param({"1", "64", "1024"})
+        private int batchSize;
+
+        private Path journalPath;
+        private MoveJournal moveJournal;
+        private int index;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws IOException {
+            GameBoard gameBoard = new GameBoard(BenchmarkLevel.ADVANCED.getGameLevel(), SEED);
+            journalPath = Files.createTempFile("minesweeper-journal", ".bin");
+            moveJournal = MoveJournal.start(journalPath, gameBoard, batchSize);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws IOException {
+            moveJournal.close();
+            Files.deleteIfExists(journalPath);
+        }
+    }
+
+    @Benchmark
+    public GameBoard replayFromBuffer(RecordedGame state) {
+        return new MoveJournalReplayer().replay(state.journalBytes.duplicate());
+    }
+
+    @Benchmark
+    public GameBoard replayFromMappedFile(RecordedGame state) {
+        return new MoveJournalReplayer().replay(state.journalPath);
+    }
+
+    @Benchmark
+    public int recordMove(OpenJournal state) {
+        state.moveJournal.record(state.index++, MoveType.OPEN);
+        return state.index;
+    }
+}
@@ -0,0 +1,90 @@
+package cleancode.minesweeper.tobe.minesweeper.board.save;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장해 둔 보드를 읽는 비용과 같은 시드로 보드를 다시 만드는 비용을 비교한다.
+ * regenerate 는 지뢰 배치와 숫자 계산만 하므로, 진행 중이던 게임의 열린 칸까지 되살리려면 여기에 수를 다시 두는 비용이 더해진다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBoardSaveLoadBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"ADVANCED", "MILLION_CELLS"})
+    private BenchmarkLevel level;
+
+    private final GameBoardFileStore fileStore = new GameBoardFileStore();
+    private GameBoard savedBoard;
+    private ByteBuffer savedBytes;
+    private Path savePath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        GameLevel gameLevel = level.getGameLevel();
+        savedBoard = new GameBoard(gameLevel, SEED);
+        savedBoard.initializeGame();
+        savedBoard.openAt(CellPosition.of(gameLevel.getRowSize() / 2, gameLevel.getColSize() / 2));
+
+        savedBytes = ByteBuffer.allocateDirect(GameBoardSaveFormat.sizeOf(savedBoard));
+        GameBoardSaveFormat.write(savedBoard, savedBytes);
+
+        savePath = Files.createTempFile("minesweeper-save", ".bin");
+        fileStore.save(savedBoard, savePath);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savePath);
+    }
+
+    @Benchmark
+    public GameBoard regenerate() {
+        GameBoard gameBoard = new GameBoard(level.getGameLevel(), SEED);
+        gameBoard.initializeGame();
+        return gameBoard;
+    }
+
+    @Benchmark
+    public GameBoard loadFromBuffer() {
+        return GameBoardSaveFormat.read(savedBytes.duplicate().flip());
+    }
+
+    @Benchmark
+    public GameBoard loadFromMappedFile() {
+        return fileStore.load(savePath);
+    }
+
+    @Benchmark
+    public Path saveToMappedFile() {
+        fileStore.save(savedBoard, savePath);
+        return savePath;
+    }
+}
@@ -0,0 +1,49 @@
+package cleancode.minesweeper.tobe.minesweeper.board.storage;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 빈 보드를 만드는 데 드는 할당량으로 저장소별 메모리 사용량을 비교한다.
+ * {@code -prof gc} 로 실행하면 gc.alloc.rate.norm 값이 보드 하나의 크기(byte)가 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardStorageFootprintBenchmark {
+
+    @Param({"ADVANCED", "MILLION_CELLS"})
+    private BenchmarkLevel level;
+
+    @Benchmark
+    public BoardStorage packedBoardStorage() {
+        return createClearedStorage(PackedBoardStorage::of);
+    }
+
+    @Benchmark
+    public BoardStorage objectBoardStorage() {
+        return createClearedStorage(ObjectBoardStorage::of);
+    }
+
+    private BoardStorage createClearedStorage(BoardStorageFactory boardStorageFactory) {
+        GameLevel gameLevel = level.getGameLevel();
+        BoardStorage boardStorage = boardStorageFactory.create(gameLevel.getRowSize(), gameLevel.getColSize());
+        boardStorage.clear();
+        return boardStorage;
+    }
+}
@@ -0,0 +1,50 @@
+package cleancode.minesweeper.tobe.minesweeper.gamelevel;
+
+public enum BenchmarkLevel {
+    VERY_BEGINNER(new VeryBeginner()),
+    BEGINNER(new Beginner()),
+    MIDDLE(new Middle()),
+    ADVANCED(new Advanced()),
+    LARGE(new SyntheticLevel(500, 500, 500)),
+    MILLION_CELLS(new SyntheticLevel(1_000, 1_000, 150_000)),
+    HUGE_SPARSE(new SyntheticLevel(2_000, 2_000, 2_000)),
+    HUGE_DENSE(new SyntheticLevel(2_000, 2_000, 800_000));
+
+    private final GameLevel gameLevel;
+
+    BenchmarkLevel(GameLevel gameLevel) {
+        this.gameLevel = gameLevel;
+    }
+
+    public GameLevel getGameLevel() {
+        return gameLevel;
+    }
+
+    private static class SyntheticLevel implements GameLevel {
+
+        private final int rowSize;
+        private final int colSize;
+        private final int landMineCount;
+
+        SyntheticLevel(int rowSize, int colSize, int landMineCount) {
+            this.rowSize = rowSize;
+            this.colSize = colSize;
+            this.landMineCount = landMineCount;
+        }
+
+        @Override
+        public int getRowSize() {
+            return rowSize;
+        }
+
+        @Override
+        public int getColSize() {
+            return colSize;
+        }
+
+        @Override
+        public int getLandMineCount() {
+            return landMineCount;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.BenchmarkLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보드 한 프레임을 그리는 비용. 출력은 버려서 터미널 속도가 아닌 렌더링 자체만 잰다.
+ * DIFF 모드는 바뀐 행이 없는 프레임이므로 변경 감지에 드는 최소 비용이 된다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsoleOutputHandlerBenchmark {
+
+    @Param({"VERY_BEGINNER", "BEGINNER", "MIDDLE", "ADVANCED"})
+    private BenchmarkLevel level;
+
+    @Param({"FULL", "DIFF"})
+    private BoardRenderMode renderMode;
+
+    private GameBoard gameBoard;
+    private ConsoleOutputHandler outputHandler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameBoard = new GameBoard(level.getGameLevel(), 42L);
+        gameBoard.initializeGame();
+        gameBoard.openAt(CellPosition.of(0, 0));
+        outputHandler = new ConsoleOutputHandler(OutputStream.nullOutputStream(), renderMode);
+        outputHandler.showBoard(gameBoard);
+    }
+
+    @Benchmark
+    public void showBoard() {
+        outputHandler.showBoard(gameBoard);
+    }
+}
@@ -0,0 +1,117 @@
+package cleancode.studycafe.tobe_personal.io;
+
+import cleancode.studycafe.tobe_personal.io.compiled.CompiledPassCatalogFileStore;
+import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassCatalog;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 키오스크가 시작할 때 이용권 목록을 준비하는 비용을 CSV 와 컴파일된 목록으로 비교한다.
+ * 파일은 페이지 캐시에 올라간 상태이므로 디스크 읽기를 뺀 파싱 / 매핑 비용만 잰다.
+ * compiledCatalog 는 헤더만 읽으므로, 모든 이용권을 꺼내 보는 compiledCatalogFullScan 도 같이 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PassCatalogStartupBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int MAX_DURATION = 52;
+
+    @Param({"1000", "1000000"})
+    private int passCount;
+
+    private final CompiledPassCatalogFileStore compiledCatalogStore = new CompiledPassCatalogFileStore();
+    private Path directory;
+    private Path compiledCatalogPath;
+    private StudyCafeFileHandler fileHandler;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("pass-catalog");
+        writePassList(directory.resolve(StudyCafeFileHandler.PASS_LIST_FILE_NAME));
+        writeLockerList(directory.resolve(StudyCafeFileHandler.LOCKER_FILE_NAME));
+
+        fileHandler = new StudyCafeFileHandler(directory);
+        compiledCatalogPath = fileHandler.compilePassCatalog();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public StudyCafePassCatalog csvCatalog() {
+        return fileHandler.readCsvPassCatalog();
+    }
+
+    @Benchmark
+    public StudyCafePassCatalog compiledCatalog() {
+        return compiledCatalogStore.load(compiledCatalogPath);
+    }
+
+    @Benchmark
+    public long compiledCatalogFullScan() {
+        StudyCafePassCatalog catalog = compiledCatalogStore.load(compiledCatalogPath);
+        long totalPrice = 0;
+        for (StudyCafePassType passType : StudyCafePassType.values()) {
+            for (StudyCafePass pass : catalog.findPassesBy(passType)) {
+                totalPrice += pass.getPrice();
+            }
+        }
+        return totalPrice;
+    }
+
+    private void writePassList(Path path) throws IOException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        StudyCafePassType[] passTypes = StudyCafePassType.values();
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            for (int i = 0; i < passCount; i++) {
+                StudyCafePassType passType = passTypes[random.nextInt(passTypes.length)];
+                int duration = random.nextInt(1, MAX_DURATION + 1);
+                int price = random.nextInt(1, 1000) * 100;
+                int discountBasisPoints = random.nextInt(0, 31) * 50;
+                writer.write(String.format("%s,%d,%d,%d.%04d%n", passType, duration, price,
+                    discountBasisPoints / 10_000, discountBasisPoints % 10_000));
+            }
+        }
+    }
+
+    private void writeLockerList(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+            for (int duration = 1; duration <= MAX_DURATION; duration++) {
+                writer.write(String.format("%s,%d,%d%n", StudyCafePassType.FIXED, duration, duration * 2_500));
+            }
+        }
+    }
+}
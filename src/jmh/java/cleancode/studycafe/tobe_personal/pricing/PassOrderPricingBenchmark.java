@@ -0,0 +1,81 @@
+package cleancode.studycafe.tobe_personal.pricing;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafeLockerPass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하루치 정산처럼 큰 주문 묶음을 계산할 때 초당 처리하는 주문 수를 잰다.
+ * 결과는 주문 하나를 연산 하나로 센 처리량(orders/s)이다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PassOrderPricingBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int ORDER_COUNT = 1_000_000;
+
+    private final PassOrderPricingEngine pricingEngine = PassOrderPricingEngine.ofCommonPool();
+    private List<PassOrder> orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        StudyCafePassType[] passTypes = StudyCafePassType.values();
+
+        orders = new ArrayList<>(ORDER_COUNT);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            StudyCafePassType passType = passTypes[random.nextInt(passTypes.length)];
+            int duration = random.nextInt(1, 13);
+            StudyCafePass pass = StudyCafePass.of(passType, duration, random.nextInt(1, 1000) * 1000, random.nextInt(0, 31) * 50);
+            if (passType == StudyCafePassType.FIXED && random.nextBoolean()) {
+                orders.add(PassOrder.of(pass, StudyCafeLockerPass.of(passType, duration, duration * 2_500)));
+                continue;
+            }
+            orders.add(PassOrder.of(pass));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDER_COUNT)
+    public long priceOneByOne() {
+        long totalPrice = 0;
+        for (PassOrder order : orders) {
+            totalPrice += pricingEngine.price(order).getTotalPrice();
+        }
+        return totalPrice;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDER_COUNT)
+    public long priceAll() {
+        return pricingEngine.priceAll(orders).getTotalPrice();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDER_COUNT)
+    public long priceAllInParallel() {
+        return pricingEngine.priceAllInParallel(orders).getTotalPrice();
+    }
+}
@@ -17,10 +17,16 @@ public class Minesweeper implements GameRunnable, GameInitializable {
     private final OutputHandler outputHandler;
 
     public Minesweeper(GameConfig gameConfig) {
-        gameBoard = new GameBoard(gameConfig.getGameLevel());
+        this(gameConfig, new GameBoard(gameConfig.getGameLevel()));
+    }
+
+    /**
+     * 이미 준비된 보드로 시작한다. 이 경우 {@link #initialize()} 를 부르지 않아도 바로 게임을 진행할 수 있다.
+     */
+    public Minesweeper(GameConfig gameConfig, GameBoard gameBoard) {
+        this.gameBoard = gameBoard;
         this.inputHandler = gameConfig.getInputHandler();
         this.outputHandler = gameConfig.getOutputHandler();
-
     }
 
     @Override
@@ -32,19 +38,30 @@ public class Minesweeper implements GameRunnable, GameInitializable {
     public void run() {
         outputHandler.showGameStartComments();
         while (gameBoard.isInProgress()) {
-            try {
-                outputHandler.showBoard(gameBoard);
-
-                CellPosition cellInput = getCellInputFromUser();
-                UserAction userActionInput = getUserActionInputFromUser();
-                actOnCell(cellInput, userActionInput);
-            } catch (GameException e) {
-                outputHandler.showExceptionMessage(e);
-            } catch (Exception e) {
-                outputHandler.showSimpleMessage("프로그램에 문제가 생겼습니다.");
-            }
+            playTurn();
+        }
+        showGameResult();
+    }
+
+    public void playTurn() {
+        try {
+            outputHandler.showBoard(gameBoard);
+
+            CellPosition cellInput = getCellInputFromUser();
+            UserAction userActionInput = getUserActionInputFromUser();
+            actOnCell(cellInput, userActionInput);
+        } catch (GameException e) {
+            outputHandler.showExceptionMessage(e);
+        } catch (Exception e) {
+            outputHandler.showSimpleMessage("프로그램에 문제가 생겼습니다.");
         }
+    }
+
+    public void showBoard() {
+        outputHandler.showBoard(gameBoard);
+    }
 
+    public void showGameResult() {
         outputHandler.showBoard(gameBoard);
 
         if (gameBoard.isWinStatus()) {
@@ -55,6 +72,18 @@ public class Minesweeper implements GameRunnable, GameInitializable {
         }
     }
 
+    public boolean isInProgress() {
+        return gameBoard.isInProgress();
+    }
+
+    public boolean isWinStatus() {
+        return gameBoard.isWinStatus();
+    }
+
+    public boolean isLoseStatus() {
+        return gameBoard.isLoseStatus();
+    }
+
     private CellPosition getCellInputFromUser() {
         outputHandler.showCommentForSelectingCell();
         CellPosition cellPosition = inputHandler.getCellPositionFromUser();
@@ -0,0 +1,60 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+/**
+ * 지뢰 밀도로 보드 생성 방식을 고른다. 경계값은 BoardGeneratorBenchmark 의 교차점(1000x1000 기준)으로 잡았다.
+ * 지뢰가 20% 미만이면 지뢰 수에 비례하는 SPARSE, 85% 이상이면 안전한 칸만 세는 DENSE,
+ * 그 사이는 보드를 한 번만 훑는 STREAMING 이 가장 빠르다.
+ * 같은 레벨과 시드는 초기화 모드와 상관없이 같은 보드가 되어야 하므로(저장 / 저널 재생) 고를 때 밀도만 본다.
+ * 병렬 초기화 모드는 STREAMING / DENSE 의 주변 지뢰 수 계산을 fork/join 으로 나눈다. 지뢰 배치는 모드와 상관없이 같다.
+ * SPARSE 는 지뢰 수에 비례하게 뿌리는 편이 보드 전체를 다시 세는 것보다 빠르므로 모드와 상관없이 뿌린다.
+ */
+public enum BoardGenerationStrategy {
+
+    SPARSE("지뢰 위치를 뽑는다"),
+    STREAMING("행 단위로 지뢰를 놓으며 바로 센다"),
+    DENSE("안전한 칸 위치를 뽑는다");
+
+    private static final double SPARSE_DENSITY_LIMIT = 0.2;
+    private static final double DENSE_DENSITY_FROM = 0.85;
+
+    private final String description;
+
+    BoardGenerationStrategy(String description) {
+        this.description = description;
+    }
+
+    public static BoardGenerationStrategy select(int cellCount, int landMineCount) {
+        double density = (double) landMineCount / cellCount;
+        if (density < SPARSE_DENSITY_LIMIT) {
+            return SPARSE;
+        }
+        if (density >= DENSE_DENSITY_FROM) {
+            return DENSE;
+        }
+        return STREAMING;
+    }
+
+    public BoardGenerator createGenerator(BoardInitializationMode initializationMode) {
+        if (this == DENSE) {
+            return new DenseBoardGenerator(createNearbyLandMineCounter(initializationMode));
+        }
+        if (this == STREAMING) {
+            if (initializationMode == BoardInitializationMode.PARALLEL) {
+                return new StreamingBoardGenerator(createNearbyLandMineCounter(initializationMode));
+            }
+            return new StreamingBoardGenerator();
+        }
+        return new SparseBoardGenerator();
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    private NearbyLandMineCounter createNearbyLandMineCounter(BoardInitializationMode initializationMode) {
+        if (initializationMode == BoardInitializationMode.PARALLEL) {
+            return ParallelNearbyLandMineCounter.ofCommonPool();
+        }
+        return new SequentialNearbyLandMineCounter();
+    }
+}
@@ -0,0 +1,15 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 비어 있는 저장소에 지뢰를 놓고 주변 지뢰 수까지 채운다.
+ * 같은 난수 생성기 상태에서는 항상 같은 보드를 만든다.
+ */
+public interface BoardGenerator {
+
+    void generate(BoardStorage boardStorage, SurroundedIndexes surroundedIndexes, int landMineCount, RandomGenerator randomGenerator);
+}
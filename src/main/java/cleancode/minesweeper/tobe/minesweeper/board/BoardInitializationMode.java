@@ -0,0 +1,16 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+/**
+ * 보드를 만들 때 주변 지뢰 수를 어떻게 셀지 정한다. 지뢰 배치는 모드와 상관없이 같으므로 같은 시드면 같은 보드가 된다.
+ * PARALLEL 은 지뢰 20% 이상(STREAMING / DENSE) 보드에서만 fork/join 으로 센다. 지뢰가 드문 보드는 지뢰에서 뿌리는 편이 빨라 순차로 만든다.
+ */
+public enum BoardInitializationMode {
+    SEQUENTIAL("순차 초기화"),
+    PARALLEL("병렬 초기화");
+
+    private final String description;
+
+    BoardInitializationMode(String description) {
+        this.description = description;
+    }
+}
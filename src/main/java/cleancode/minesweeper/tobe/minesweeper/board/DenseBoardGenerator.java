@@ -0,0 +1,47 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+
+/**
+ * 지뢰 대신 안전한 칸을 Floyd 알고리즘으로 뽑고, 뽑히지 않은 칸에 지뢰를 놓는다.
+ * 지뢰가 절반을 넘는 보드에서는 뽑을 개수가 더 적어진다.
+ */
+public class DenseBoardGenerator implements BoardGenerator {
+
+    private final NearbyLandMineCounter nearbyLandMineCounter;
+
+    public DenseBoardGenerator(NearbyLandMineCounter nearbyLandMineCounter) {
+        this.nearbyLandMineCounter = nearbyLandMineCounter;
+    }
+
+    @Override
+    public void generate(BoardStorage boardStorage, SurroundedIndexes surroundedIndexes, int landMineCount, RandomGenerator randomGenerator) {
+        int cellCount = boardStorage.getCellCount();
+        if (landMineCount > cellCount) {
+            throw new IllegalArgumentException("지뢰 수가 셀 수보다 많습니다.");
+        }
+
+        BitSet safeCells = sampleSafeCells(cellCount, cellCount - landMineCount, randomGenerator);
+        for (int index = safeCells.nextClearBit(0); index < cellCount; index = safeCells.nextClearBit(index + 1)) {
+            boardStorage.placeLandMineAt(index);
+        }
+        nearbyLandMineCounter.countAll(boardStorage, surroundedIndexes);
+    }
+
+    private BitSet sampleSafeCells(int cellCount, int safeCellCount, RandomGenerator randomGenerator) {
+        BitSet safeCells = new BitSet(cellCount);
+        for (int bound = cellCount - safeCellCount; bound < cellCount; bound++) {
+            int candidateIndex = randomGenerator.nextInt(bound + 1);
+            if (safeCells.get(candidateIndex)) {
+                safeCells.set(bound);
+                continue;
+            }
+            safeCells.set(candidateIndex);
+        }
+        return safeCells;
+    }
+}
@@ -0,0 +1,84 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 선택한 셀부터 주변 지뢰가 없는 영역을 넓혀 가며 여는 BFS.
+ * 방문 비트맵으로 셀마다 한 번만 큐에 넣기 때문에 큐는 보드 크기를 넘지 않는다.
+ * 큐와 비트맵은 처음 열 때 작게 만들고 필요한 만큼만 늘린다. 열지 않고 끝나는 보드는 셀 수만큼의 큐를 들고 있지 않는다.
+ */
+public class FloodFillRevealer {
+
+    private static final int INITIAL_QUEUE_CAPACITY = 64;
+
+    private final BoardStorage boardStorage;
+    private final SurroundedIndexes surroundedIndexes;
+    private final int[] surroundedIndexBuffer = new int[SurroundedIndexes.MAX_SURROUNDED_COUNT];
+    private final BitSet visited = new BitSet();
+    private int[] queue = new int[0];
+
+    public FloodFillRevealer(BoardStorage boardStorage, SurroundedIndexes surroundedIndexes) {
+        this.boardStorage = boardStorage;
+        this.surroundedIndexes = surroundedIndexes;
+    }
+
+    public RevealedCells revealFrom(int index) {
+        if (isNotRevealable(index)) {
+            return RevealedCells.empty(boardStorage.getColSize());
+        }
+
+        int tail = 0;
+        ensureQueueCapacity(1);
+        visited.set(index);
+        queue[tail++] = index;
+
+        for (int head = 0; head < tail; head++) {
+            int currentIndex = queue[head];
+            boardStorage.openAt(currentIndex);
+
+            if (boardStorage.hasLandMineCountAt(currentIndex)) {
+                continue;
+            }
+            tail = enqueueSurroundedCells(currentIndex, tail);
+        }
+
+        clearVisited(tail);
+        return RevealedCells.of(Arrays.copyOf(queue, tail), boardStorage.getColSize());
+    }
+
+    private int enqueueSurroundedCells(int index, int tail) {
+        int surroundedCount = surroundedIndexes.findAround(index, surroundedIndexBuffer);
+        ensureQueueCapacity(tail + surroundedCount);
+        for (int i = 0; i < surroundedCount; i++) {
+            int surroundedIndex = surroundedIndexBuffer[i];
+            if (visited.get(surroundedIndex) || isNotRevealable(surroundedIndex)) {
+                continue;
+            }
+            visited.set(surroundedIndex);
+            queue[tail++] = surroundedIndex;
+        }
+        return tail;
+    }
+
+    private void ensureQueueCapacity(int requiredCapacity) {
+        if (queue.length >= requiredCapacity) {
+            return;
+        }
+        int grownCapacity = Math.max(requiredCapacity, Math.max(INITIAL_QUEUE_CAPACITY, queue.length * 2));
+        queue = Arrays.copyOf(queue, Math.min(grownCapacity, Math.max(requiredCapacity, boardStorage.getCellCount())));
+    }
+
+    private boolean isNotRevealable(int index) {
+        return boardStorage.isOpenedAt(index) || boardStorage.isLandMineAt(index);
+    }
+
+    private void clearVisited(int visitedCount) {
+        for (int i = 0; i < visitedCount; i++) {
+            visited.clear(queue[i]);
+        }
+    }
+}
@@ -1,70 +1,115 @@
 package cleancode.minesweeper.tobe.minesweeper.board;
 
-import cleancode.minesweeper.tobe.minesweeper.board.cell.Cell;
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
-import cleancode.minesweeper.tobe.minesweeper.board.cell.Cells;
-import cleancode.minesweeper.tobe.minesweeper.board.cell.EmptyCell;
-import cleancode.minesweeper.tobe.minesweeper.board.cell.LandMineCell;
-import cleancode.minesweeper.tobe.minesweeper.board.cell.NumberCell;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+import cleancode.minesweeper.tobe.minesweeper.board.layout.BoardLayout;
 import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
-import cleancode.minesweeper.tobe.minesweeper.board.position.CellPositions;
-import cleancode.minesweeper.tobe.minesweeper.board.position.RelativePosition;
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorageFactory;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.PackedBoardStorage;
 import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.List;
-import java.util.Stack;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class GameBoard {
-    private final Cell[][] board;
+    private final BoardStorage boardStorage;
+    private final SurroundedIndexes surroundedIndexes;
+    private final FloodFillRevealer floodFillRevealer;
+    private final NearbyLandMineCountScatterer nearbyLandMineCountScatterer;
+    private final BoardGenerator boardGenerator;
     private final int landMineCount;
+    private final long seed;
     private GameStatus gameStatus;
+    private MoveRecordable moveRecorder = MoveRecordable.NONE;
 
     public GameBoard(GameLevel gameLevel) {
+        this(gameLevel, PackedBoardStorage::of);
+    }
+
+    public GameBoard(GameLevel gameLevel, long seed) {
+        this(gameLevel, seed, PackedBoardStorage::of, BoardInitializationMode.SEQUENTIAL);
+    }
+
+    public GameBoard(GameLevel gameLevel, BoardStorageFactory boardStorageFactory) {
+        this(gameLevel, boardStorageFactory, BoardInitializationMode.SEQUENTIAL);
+    }
+
+    public GameBoard(GameLevel gameLevel, BoardStorageFactory boardStorageFactory, BoardInitializationMode initializationMode) {
+        this(gameLevel, gameLevel.getSeed().orElseGet(() -> ThreadLocalRandom.current().nextLong()), boardStorageFactory, initializationMode);
+    }
+
+    public GameBoard(GameLevel gameLevel, long seed, BoardStorageFactory boardStorageFactory, BoardInitializationMode initializationMode) {
         int colSize = gameLevel.getColSize();
         int rowSize = gameLevel.getRowSize();
-        board = new Cell[rowSize][colSize];
+        boardStorage = boardStorageFactory.create(rowSize, colSize);
+        surroundedIndexes = SurroundedIndexes.of(rowSize, colSize);
+        floodFillRevealer = new FloodFillRevealer(boardStorage, surroundedIndexes);
+        nearbyLandMineCountScatterer = new NearbyLandMineCountScatterer(boardStorage, surroundedIndexes);
 
         landMineCount = gameLevel.getLandMineCount();
+        boardGenerator = BoardGenerationStrategy.select(boardStorage.getCellCount(), landMineCount)
+                .createGenerator(initializationMode);
+        this.seed = seed;
         initializeGameStatus();
     }
 
-    private static List<CellPosition> calculateSurroundedPositions(CellPosition cellPosition, int rowSize, int colSize) {
-        return RelativePosition.SURROUNDED_POSITIONS.stream()
-                .filter(cellPosition::canCalculatePositionBy)
-                .map(cellPosition::calculatePositionBy)
-                .filter(position -> position.isRowIndexLessThan(rowSize))
-                .filter(position -> position.isColIndexLessThan(colSize))
-                .toList();
+    /**
+     * 저장해 둔 셀 상태로 보드를 되살린다. 지뢰 배치나 숫자 계산은 다시 하지 않는다.
+     */
+    public static GameBoard restore(GameLevel gameLevel, long seed, GameStatus gameStatus, ByteBuffer cells) {
+        GameBoard gameBoard = new GameBoard(gameLevel, seed);
+        gameBoard.boardStorage.importCellsFrom(cells);
+        gameBoard.gameStatus = gameStatus;
+        return gameBoard;
+    }
+
+    /**
+     * 미리 만든 배치를 복사해서 시작한다. 배치의 시드가 이 보드의 시드가 된다.
+     */
+    public static GameBoard from(GameLevel gameLevel, BoardLayout boardLayout) {
+        if (!boardLayout.fits(gameLevel)) {
+            throw new IllegalArgumentException("레벨과 맞지 않는 보드 배치입니다.");
+        }
+        GameBoard gameBoard = new GameBoard(gameLevel, boardLayout.getSeed());
+        gameBoard.boardStorage.importCellsFrom(boardLayout.readCells());
+        return gameBoard;
     }
 
     public void initializeGame() {
         initializeGameStatus();
-        CellPositions cellPositions = CellPositions.from(board);
-
-        initializeEmptyCells(cellPositions);
-
-        List<CellPosition> landMineCellPositions = cellPositions.extractRandomPositions(landMineCount);
-        initializeLandMineCells(landMineCellPositions);
+        initializeEmptyCells();
+        boardGenerator.generate(boardStorage, surroundedIndexes, landMineCount, new SplittableRandom(seed));
+    }
 
-        List<CellPosition> numberPositionCandidates = cellPositions.subtract(landMineCellPositions);
-        initializeNumberCells(numberPositionCandidates);
+    public void recordMovesTo(MoveRecordable moveRecorder) {
+        this.moveRecorder = moveRecorder;
     }
 
-    public void openAt(CellPosition cellPosition) {
+    public RevealedCells openAt(CellPosition cellPosition) {
+        int index = indexOf(cellPosition);
+        if (isFirstOpen()) {
+            relocateLandMineAwayFrom(index);
+        }
         if (isLandMineCell(cellPosition)) {
             openOneCellAt(cellPosition);
             changeGameStatusToLose();
-            return;
+            moveRecorder.record(index, MoveType.OPEN);
+            return RevealedCells.of(new int[]{index}, getColSize());
         }
-        openSurroundedCells(cellPosition);
+        RevealedCells revealedCells = floodFillRevealer.revealFrom(index);
         checkIfGameIsOver();
+        moveRecorder.record(index, MoveType.OPEN);
+        return revealedCells;
     }
 
     public void flagAt(CellPosition cellPosition) {
-        findCell(cellPosition).flag();
+        int index = indexOf(cellPosition);
+        boardStorage.flagAt(index);
         checkIfGameIsOver();
+        moveRecorder.record(index, MoveType.FLAG);
     }
 
     public boolean isInvalidCellPosition(CellPosition cellPosition) {
@@ -88,122 +133,124 @@ public class GameBoard {
     }
 
     public int getRowSize() {
-        return board.length;
+        return boardStorage.getRowSize();
     }
 
     public int getColSize() {
-        return board[0].length;
+        return boardStorage.getColSize();
     }
 
-    public CellSnapshot getSnapshot(CellPosition cellPosition) {
-        Cell cell = findCell(cellPosition);
-        return cell.getSnapshot();
+    public long getSeed() {
+        return seed;
     }
 
-    private void initializeGameStatus() {
-        gameStatus = GameStatus.IN_PROGRESS;
+    public int getLandMineCount() {
+        return landMineCount;
     }
 
-    private void initializeEmptyCells(CellPositions cellPositions) {
-        List<CellPosition> allPositions = cellPositions.getPositions();
-        for (CellPosition cellPosition : allPositions) {
-            updateCellAt(cellPosition, new EmptyCell());
-        }
+    public GameStatus getGameStatus() {
+        return gameStatus;
     }
 
-    private void initializeLandMineCells(List<CellPosition> landMineCellPositions) {
-        for (CellPosition cellPosition : landMineCellPositions) {
-            updateCellAt(cellPosition, new LandMineCell());
-        }
+    public int getCellCount() {
+        return boardStorage.getCellCount();
     }
 
-    private void initializeNumberCells(List<CellPosition> numberPositionCandidates) {
-        for (CellPosition candidatePosition : numberPositionCandidates) {
-            int count = countNearbyLandMines(candidatePosition);
-            if (count != 0) {
-                updateCellAt(candidatePosition, new NumberCell(count));
-            }
-        }
+    public void exportCellsTo(ByteBuffer target) {
+        boardStorage.exportCellsTo(target);
     }
 
-    private boolean isLandMineCell(CellPosition cellPosition) {
-        return findCell(cellPosition).isLandMine();
-    }
-
-    private void openOneCellAt(CellPosition cellPosition) {
-        findCell(cellPosition).open();
-    }
-
-    private void changeGameStatusToLose() {
-        gameStatus = GameStatus.LOSE;
+    public CellSnapshot getSnapshot(CellPosition cellPosition) {
+        return boardStorage.getSnapshotAt(indexOf(cellPosition));
     }
 
-    private void openSurroundedCells(CellPosition cellPosition) {
-        Deque<CellPosition> stack = new ArrayDeque<>();
-        stack.push(cellPosition);
-
-        while (!stack.isEmpty()) {
-            openAndPushCellAt(stack);
+    public void copySnapshotsOfRow(int rowIndex, CellSnapshot[] snapshots) {
+        int fromIndex = rowIndex * getColSize();
+        for (int col = 0; col < getColSize(); col++) {
+            snapshots[col] = boardStorage.getSnapshotAt(fromIndex + col);
         }
     }
 
-    private void openAndPushCellAt(Deque<CellPosition> stack) {
-        CellPosition currentCellPosition = stack.pop();
-        if (isOpenedCell(currentCellPosition)) {
-            return;
-        }
-        if (isLandMineCell(currentCellPosition)) {
-            return;
+    public void copyAllSnapshots(CellSnapshot[] snapshots) {
+        for (int index = 0; index < boardStorage.getCellCount(); index++) {
+            snapshots[index] = boardStorage.getSnapshotAt(index);
         }
-        openOneCellAt(currentCellPosition);
+    }
 
-        if (doesCellHaveLandMineCount(currentCellPosition)) {
-            return;
+    public void copyStatusesOfRow(int rowIndex, CellSnapshotStatus[] statuses) {
+        int fromIndex = rowIndex * getColSize();
+        for (int col = 0; col < getColSize(); col++) {
+            statuses[col] = boardStorage.getSnapshotAt(fromIndex + col).getStatus();
         }
+    }
 
-        List<CellPosition> surroundedPositions = calculateSurroundedPositions(currentCellPosition, getRowSize(), getColSize());
-        for (CellPosition surroundedPosition : surroundedPositions) {
-            stack.push(surroundedPosition);
+    public void copyAllStatuses(CellSnapshotStatus[] statuses) {
+        for (int index = 0; index < boardStorage.getCellCount(); index++) {
+            statuses[index] = boardStorage.getSnapshotAt(index).getStatus();
         }
     }
 
-    private void checkIfGameIsOver() {
-        if (isAllCellChecked()) {
-            changeGameStatusToWin();
-        }
+    private void initializeGameStatus() {
+        gameStatus = GameStatus.IN_PROGRESS;
     }
 
-    private Cell findCell(CellPosition cellPosition) {
-        return board[cellPosition.getRowIndex()][cellPosition.getColIndex()];
+    private void initializeEmptyCells() {
+        boardStorage.clear();
     }
 
-    private void updateCellAt(CellPosition cellPosition, Cell cell) {
-        board[cellPosition.getRowIndex()][cellPosition.getColIndex()] = cell;
+    private boolean isFirstOpen() {
+        return boardStorage.getOpenedSafeCellCount() == 0;
     }
 
-    private int countNearbyLandMines(CellPosition cellPosition) {
+    /**
+     * 첫 번째로 연 칸이 지뢰면 앞에서부터 처음 만나는 지뢰 아닌 칸으로 옮긴다.
+     * 옮길 칸을 난수 없이 정하므로 같은 시드와 같은 수로 다시 두면 같은 보드가 된다.
+     */
+    private void relocateLandMineAwayFrom(int index) {
+        if (!boardStorage.isLandMineAt(index)) {
+            return;
+        }
+        for (int candidateIndex = 0; candidateIndex < boardStorage.getCellCount(); candidateIndex++) {
+            if (!boardStorage.isLandMineAt(candidateIndex)) {
+                nearbyLandMineCountScatterer.relocateLandMine(index, candidateIndex);
+                return;
+            }
+        }
+    }
 
-        long count = calculateSurroundedPositions(cellPosition, getRowSize(), getColSize()).stream()
-                .filter(this::isLandMineCell)
-                .count();
+    private boolean isLandMineCell(CellPosition cellPosition) {
+        return boardStorage.isLandMineAt(indexOf(cellPosition));
+    }
 
+    private void openOneCellAt(CellPosition cellPosition) {
+        boardStorage.openAt(indexOf(cellPosition));
+    }
 
-        return (int) count;
+    private void changeGameStatusToLose() {
+        gameStatus = GameStatus.LOSE;
     }
 
-    private boolean isOpenedCell(CellPosition cellPosition) {
-        return findCell(cellPosition).isOpened();
+    private void checkIfGameIsOver() {
+        if (isAllCellChecked()) {
+            changeGameStatusToWin();
+        }
     }
 
-    private boolean doesCellHaveLandMineCount(CellPosition cellPosition) {
-        return findCell(cellPosition).hasLandMineCount();
+    private int indexOf(CellPosition cellPosition) {
+        return cellPosition.toIndex(getColSize());
     }
 
     private boolean isAllCellChecked() {
+        return isAllSafeCellOpened() && isAllLandMineFlagged();
+    }
 
-        Cells cells = Cells.from(board);
+    private boolean isAllSafeCellOpened() {
+        int safeCellCount = boardStorage.getCellCount() - landMineCount;
+        return boardStorage.getOpenedSafeCellCount() == safeCellCount;
+    }
 
-        return cells.isAllChecked();
+    private boolean isAllLandMineFlagged() {
+        return boardStorage.getFlaggedLandMineCount() == landMineCount;
     }
 
     private void changeGameStatusToWin() {
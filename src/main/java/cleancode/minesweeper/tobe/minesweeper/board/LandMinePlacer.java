@@ -0,0 +1,42 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 보드 전체 좌표를 섞지 않고 Floyd 알고리즘으로 서로 다른 인덱스 k개를 뽑아 지뢰를 놓는다.
+ * 이미 뽑힌 인덱스인지는 저장소의 지뢰 비트로 확인하므로 추가 자료구조 없이 O(k)로 끝난다.
+ */
+public class LandMinePlacer {
+
+    private final RandomGenerator randomGenerator;
+
+    public LandMinePlacer(RandomGenerator randomGenerator) {
+        this.randomGenerator = randomGenerator;
+    }
+
+    public static LandMinePlacer of(RandomGenerator randomGenerator) {
+        return new LandMinePlacer(randomGenerator);
+    }
+
+    /**
+     * @return 지뢰를 놓은 인덱스들
+     */
+    public int[] placeLandMines(BoardStorage boardStorage, int landMineCount) {
+        int cellCount = boardStorage.getCellCount();
+        if (landMineCount > cellCount) {
+            throw new IllegalArgumentException("지뢰 수가 셀 수보다 많습니다.");
+        }
+
+        int[] landMineIndexes = new int[landMineCount];
+        int placedCount = 0;
+        for (int bound = cellCount - landMineCount; bound < cellCount; bound++) {
+            int candidateIndex = randomGenerator.nextInt(bound + 1);
+            int landMineIndex = boardStorage.isLandMineAt(candidateIndex) ? bound : candidateIndex;
+            boardStorage.placeLandMineAt(landMineIndex);
+            landMineIndexes[placedCount++] = landMineIndex;
+        }
+        return landMineIndexes;
+    }
+}
@@ -0,0 +1,13 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+/**
+ * 보드에 둔 수를 받아 적는 쪽. openAt / flagAt 이 끝난 뒤에 셀 인덱스와 수 종류로 호출된다.
+ */
+@FunctionalInterface
+public interface MoveRecordable {
+
+    MoveRecordable NONE = (index, moveType) -> {
+    };
+
+    void record(int index, MoveType moveType);
+}
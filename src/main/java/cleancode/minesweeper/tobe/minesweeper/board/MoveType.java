@@ -0,0 +1,30 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+public enum MoveType {
+
+    OPEN("셀 열기"),
+    FLAG("깃발 꽂기");
+
+    private static final MoveType[] VALUES = values();
+
+    private final String description;
+
+    MoveType(String description) {
+        this.description = description;
+    }
+
+    public static MoveType ofCode(int code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("알 수 없는 수 종류입니다: " + code);
+        }
+        return VALUES[code];
+    }
+
+    public int getCode() {
+        return ordinal();
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,74 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+
+/**
+ * 지뢰 하나가 바뀔 때 그 주변 8칸의 주변 지뢰 수만 +1 / -1 해서 맞춘다.
+ * 처음 계산할 때도 지뢰마다 이웃에 +1 을 뿌리므로 비용이 셀 수가 아니라 지뢰 수에 비례한다.
+ */
+public class NearbyLandMineCountScatterer {
+
+    private final BoardStorage boardStorage;
+    private final SurroundedIndexes surroundedIndexes;
+    private final int[] surroundedIndexBuffer = new int[SurroundedIndexes.MAX_SURROUNDED_COUNT];
+
+    public NearbyLandMineCountScatterer(BoardStorage boardStorage, SurroundedIndexes surroundedIndexes) {
+        this.boardStorage = boardStorage;
+        this.surroundedIndexes = surroundedIndexes;
+    }
+
+    /**
+     * 이미 놓인 지뢰들에서 주변 지뢰 수를 뿌린다. 지뢰가 아닌 칸의 주변 지뢰 수는 0 이어야 한다.
+     */
+    public void scatterFrom(int[] landMineIndexes) {
+        for (int landMineIndex : landMineIndexes) {
+            addToNeighbors(landMineIndex, 1);
+        }
+    }
+
+    public void addLandMineAt(int index) {
+        if (boardStorage.isLandMineAt(index)) {
+            return;
+        }
+        boardStorage.placeLandMineAt(index);
+        addToNeighbors(index, 1);
+    }
+
+    public void removeLandMineAt(int index) {
+        if (!boardStorage.isLandMineAt(index)) {
+            return;
+        }
+        boardStorage.removeLandMineAt(index);
+        boardStorage.updateNearbyLandMineCountAt(index, countNearbyLandMines(index));
+        addToNeighbors(index, -1);
+    }
+
+    public void relocateLandMine(int fromIndex, int toIndex) {
+        removeLandMineAt(fromIndex);
+        addLandMineAt(toIndex);
+    }
+
+    private void addToNeighbors(int index, int delta) {
+        int surroundedCount = surroundedIndexes.findAround(index, surroundedIndexBuffer);
+        for (int i = 0; i < surroundedCount; i++) {
+            int neighborIndex = surroundedIndexBuffer[i];
+            if (boardStorage.isLandMineAt(neighborIndex)) {
+                continue;
+            }
+            boardStorage.updateNearbyLandMineCountAt(neighborIndex, boardStorage.getNearbyLandMineCountAt(neighborIndex) + delta);
+        }
+    }
+
+    private int countNearbyLandMines(int index) {
+        int surroundedCount = surroundedIndexes.findAround(index, surroundedIndexBuffer);
+
+        int count = 0;
+        for (int i = 0; i < surroundedCount; i++) {
+            if (boardStorage.isLandMineAt(surroundedIndexBuffer[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,12 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+
+/**
+ * 지뢰가 모두 놓인 보드에서 지뢰가 아닌 칸의 주변 지뢰 수를 채운다.
+ */
+public interface NearbyLandMineCounter {
+
+    void countAll(BoardStorage boardStorage, SurroundedIndexes surroundedIndexes);
+}
@@ -0,0 +1,92 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 지뢰가 모두 놓인 보드를 행 단위 구간으로 나눠 fork/join 으로 주변 지뢰 수를 채운다.
+ * 구간마다 자기 행의 셀에만 쓰기 때문에 결과는 순차 계산과 같다.
+ */
+public class ParallelNearbyLandMineCounter implements NearbyLandMineCounter {
+
+    private static final int MIN_CELL_COUNT_TO_SPLIT = 16_384;
+
+    private final ForkJoinPool forkJoinPool;
+
+    public ParallelNearbyLandMineCounter(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    public static ParallelNearbyLandMineCounter ofCommonPool() {
+        return new ParallelNearbyLandMineCounter(ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public void countAll(BoardStorage boardStorage, SurroundedIndexes surroundedIndexes) {
+        forkJoinPool.invoke(new RowBandTask(boardStorage, surroundedIndexes, 0, boardStorage.getRowSize()));
+    }
+
+    private static class RowBandTask extends RecursiveAction {
+
+        private final BoardStorage boardStorage;
+        private final SurroundedIndexes surroundedIndexes;
+        private final int fromRow;
+        private final int toRow;
+
+        RowBandTask(BoardStorage boardStorage, SurroundedIndexes surroundedIndexes, int fromRow, int toRow) {
+            this.boardStorage = boardStorage;
+            this.surroundedIndexes = surroundedIndexes;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (isSmallEnough()) {
+                countRows();
+                return;
+            }
+            int middleRow = (fromRow + toRow) >>> 1;
+            invokeAll(
+                    new RowBandTask(boardStorage, surroundedIndexes, fromRow, middleRow),
+                    new RowBandTask(boardStorage, surroundedIndexes, middleRow, toRow)
+            );
+        }
+
+        private boolean isSmallEnough() {
+            int rowCount = toRow - fromRow;
+            return rowCount <= 1 || rowCount * boardStorage.getColSize() <= MIN_CELL_COUNT_TO_SPLIT;
+        }
+
+        private void countRows() {
+            int[] surroundedIndexBuffer = new int[SurroundedIndexes.MAX_SURROUNDED_COUNT];
+            int fromIndex = fromRow * boardStorage.getColSize();
+            int toIndex = toRow * boardStorage.getColSize();
+
+            for (int index = fromIndex; index < toIndex; index++) {
+                if (boardStorage.isLandMineAt(index)) {
+                    continue;
+                }
+                int count = countNearbyLandMines(index, surroundedIndexBuffer);
+                if (count != 0) {
+                    boardStorage.updateNearbyLandMineCountAt(index, count);
+                }
+            }
+        }
+
+        private int countNearbyLandMines(int index, int[] surroundedIndexBuffer) {
+            int surroundedCount = surroundedIndexes.findAround(index, surroundedIndexBuffer);
+
+            int count = 0;
+            for (int i = 0; i < surroundedCount; i++) {
+                if (boardStorage.isLandMineAt(surroundedIndexBuffer[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
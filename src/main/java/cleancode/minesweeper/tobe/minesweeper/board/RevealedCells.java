@@ -0,0 +1,46 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class RevealedCells {
+
+    private final int[] indexes;
+    private final int colSize;
+
+    public RevealedCells(int[] indexes, int colSize) {
+        this.indexes = indexes;
+        this.colSize = colSize;
+    }
+
+    public static RevealedCells of(int[] indexes, int colSize) {
+        return new RevealedCells(indexes, colSize);
+    }
+
+    public static RevealedCells empty(int colSize) {
+        return new RevealedCells(new int[0], colSize);
+    }
+
+    public int getCount() {
+        return indexes.length;
+    }
+
+    public boolean isEmpty() {
+        return indexes.length == 0;
+    }
+
+    public int[] getIndexes() {
+        return Arrays.copyOf(indexes, indexes.length);
+    }
+
+    public List<CellPosition> getPositions() {
+        List<CellPosition> positions = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            positions.add(CellPosition.ofIndex(index, colSize));
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,34 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+
+public class SequentialNearbyLandMineCounter implements NearbyLandMineCounter {
+
+    private final int[] surroundedIndexBuffer = new int[SurroundedIndexes.MAX_SURROUNDED_COUNT];
+
+    @Override
+    public void countAll(BoardStorage boardStorage, SurroundedIndexes surroundedIndexes) {
+        for (int index = 0; index < boardStorage.getCellCount(); index++) {
+            if (boardStorage.isLandMineAt(index)) {
+                continue;
+            }
+            int count = countNearbyLandMines(boardStorage, surroundedIndexes, index);
+            if (count != 0) {
+                boardStorage.updateNearbyLandMineCountAt(index, count);
+            }
+        }
+    }
+
+    private int countNearbyLandMines(BoardStorage boardStorage, SurroundedIndexes surroundedIndexes, int index) {
+        int surroundedCount = surroundedIndexes.findAround(index, surroundedIndexBuffer);
+
+        int count = 0;
+        for (int i = 0; i < surroundedCount; i++) {
+            if (boardStorage.isLandMineAt(surroundedIndexBuffer[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
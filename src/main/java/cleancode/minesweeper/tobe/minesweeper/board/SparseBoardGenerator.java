@@ -0,0 +1,19 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 지뢰 위치 k개를 바로 뽑고 뽑은 지뢰에서 이웃으로 주변 지뢰 수를 뿌린다.
+ * 난수도 쓰기도 지뢰 수에 비례하므로 지뢰가 드문 보드에 맞다.
+ */
+public class SparseBoardGenerator implements BoardGenerator {
+
+    @Override
+    public void generate(BoardStorage boardStorage, SurroundedIndexes surroundedIndexes, int landMineCount, RandomGenerator randomGenerator) {
+        int[] landMineIndexes = LandMinePlacer.of(randomGenerator).placeLandMines(boardStorage, landMineCount);
+        new NearbyLandMineCountScatterer(boardStorage, surroundedIndexes).scatterFrom(landMineIndexes);
+    }
+}
@@ -0,0 +1,127 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * 칸을 앞에서부터 한 번씩 지나가며 (남은 지뢰 수 / 남은 칸 수) 확률로 지뢰를 놓고,
+ * 위 / 현재 / 아래 세 행만 들고 있다가 아래 행이 정해지는 즉시 현재 행의 주변 지뢰 수를 쓴다.
+ * 보드를 한 번만 훑고 이웃 조회 없이 세 행 배열만 읽으므로 지뢰 밀도가 중간인 보드에 맞다.
+ * 카운터를 주면 같은 순서로 지뢰를 모두 놓은 뒤 그 카운터로 센다. 병렬 초기화 모드는 이렇게 행 구간을 나눠 센다.
+ */
+public class StreamingBoardGenerator implements BoardGenerator {
+
+    /**
+     * null 이면 지뢰를 놓으면서 바로 센다.
+     */
+    private final NearbyLandMineCounter nearbyLandMineCounter;
+
+    public StreamingBoardGenerator() {
+        this.nearbyLandMineCounter = null;
+    }
+
+    public StreamingBoardGenerator(NearbyLandMineCounter nearbyLandMineCounter) {
+        this.nearbyLandMineCounter = nearbyLandMineCounter;
+    }
+
+    @Override
+    public void generate(BoardStorage boardStorage, SurroundedIndexes surroundedIndexes, int landMineCount, RandomGenerator randomGenerator) {
+        if (landMineCount > boardStorage.getCellCount()) {
+            throw new IllegalArgumentException("지뢰 수가 셀 수보다 많습니다.");
+        }
+
+        RowSampler rowSampler = new RowSampler(boardStorage, landMineCount, randomGenerator);
+        if (nearbyLandMineCounter == null) {
+            placeAndCount(boardStorage, rowSampler);
+            return;
+        }
+        placeAll(boardStorage, rowSampler);
+        nearbyLandMineCounter.countAll(boardStorage, surroundedIndexes);
+    }
+
+    private void placeAll(BoardStorage boardStorage, RowSampler rowSampler) {
+        byte[] landMines = new byte[boardStorage.getColSize()];
+        for (int row = 0; row < boardStorage.getRowSize(); row++) {
+            rowSampler.sample(row, landMines);
+        }
+    }
+
+    private void placeAndCount(BoardStorage boardStorage, RowSampler rowSampler) {
+        int rowSize = boardStorage.getRowSize();
+        int colSize = boardStorage.getColSize();
+        byte[] previousRow = new byte[colSize];
+        byte[] currentRow = new byte[colSize];
+        byte[] nextRow = new byte[colSize];
+        int[] columnSums = new int[colSize];
+
+        rowSampler.sample(0, currentRow);
+        for (int row = 0; row < rowSize; row++) {
+            if (row + 1 < rowSize) {
+                rowSampler.sample(row + 1, nextRow);
+            } else {
+                Arrays.fill(nextRow, (byte) 0);
+            }
+            writeNearbyLandMineCounts(boardStorage, row, previousRow, currentRow, nextRow, columnSums);
+
+            byte[] recycledRow = previousRow;
+            previousRow = currentRow;
+            currentRow = nextRow;
+            nextRow = recycledRow;
+        }
+    }
+
+    private void writeNearbyLandMineCounts(BoardStorage boardStorage, int row, byte[] previousRow, byte[] currentRow, byte[] nextRow, int[] columnSums) {
+        int colSize = columnSums.length;
+        for (int col = 0; col < colSize; col++) {
+            columnSums[col] = previousRow[col] + currentRow[col] + nextRow[col];
+        }
+
+        int fromIndex = row * colSize;
+        for (int col = 0; col < colSize; col++) {
+            if (currentRow[col] != 0) {
+                continue;
+            }
+            int count = columnSums[col];
+            if (col > 0) {
+                count += columnSums[col - 1];
+            }
+            if (col + 1 < colSize) {
+                count += columnSums[col + 1];
+            }
+            if (count != 0) {
+                boardStorage.updateNearbyLandMineCountAt(fromIndex + col, count);
+            }
+        }
+    }
+
+    private static class RowSampler {
+
+        private final BoardStorage boardStorage;
+        private final RandomGenerator randomGenerator;
+        private int remainingLandMineCount;
+        private int remainingCellCount;
+
+        RowSampler(BoardStorage boardStorage, int landMineCount, RandomGenerator randomGenerator) {
+            this.boardStorage = boardStorage;
+            this.randomGenerator = randomGenerator;
+            this.remainingLandMineCount = landMineCount;
+            this.remainingCellCount = boardStorage.getCellCount();
+        }
+
+        void sample(int row, byte[] landMines) {
+            int fromIndex = row * landMines.length;
+            for (int col = 0; col < landMines.length; col++) {
+                landMines[col] = 0;
+                if (randomGenerator.nextInt(remainingCellCount) < remainingLandMineCount) {
+                    landMines[col] = 1;
+                    boardStorage.placeLandMineAt(fromIndex + col);
+                    remainingLandMineCount--;
+                }
+                remainingCellCount--;
+            }
+        }
+    }
+}
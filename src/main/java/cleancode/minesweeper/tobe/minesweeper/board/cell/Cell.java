@@ -4,6 +4,8 @@ public interface Cell {
 
     boolean hasLandMineCount();
 
+    int getNearbyLandMineCount();
+
     boolean isLandMine();
 
     CellSnapshot getSnapshot();
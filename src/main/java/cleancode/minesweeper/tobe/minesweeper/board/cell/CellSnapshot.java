@@ -4,6 +4,11 @@ import java.util.Objects;
 
 public class CellSnapshot {
 
+    public static final int MAX_NEARBY_LAND_MINE_COUNT = 8;
+
+    private static final CellSnapshot[] STATUS_SNAPSHOTS = createStatusSnapshots();
+    private static final CellSnapshot[] NUMBER_SNAPSHOTS = createNumberSnapshots();
+
     private final CellSnapshotStatus status;
     private final int nearByLandMineCount;
 
@@ -13,28 +18,54 @@ public class CellSnapshot {
     }
 
     public static CellSnapshot of(CellSnapshotStatus status, int nearByLandMineCount) {
+        if (status == CellSnapshotStatus.NUMBER) {
+            return ofNumber(nearByLandMineCount);
+        }
+        if (nearByLandMineCount == 0) {
+            return STATUS_SNAPSHOTS[status.ordinal()];
+        }
         return new CellSnapshot(status, nearByLandMineCount);
     }
 
     public static CellSnapshot ofEmpty() {
-        return new CellSnapshot(CellSnapshotStatus.EMPTY, 0);
+        return STATUS_SNAPSHOTS[CellSnapshotStatus.EMPTY.ordinal()];
     }
 
 
     public static CellSnapshot ofFlag() {
-        return new CellSnapshot(CellSnapshotStatus.FLAGGED, 0);
+        return STATUS_SNAPSHOTS[CellSnapshotStatus.FLAGGED.ordinal()];
     }
 
     public static CellSnapshot ofLandMine() {
-        return new CellSnapshot(CellSnapshotStatus.LAND_MINE, 0);
+        return STATUS_SNAPSHOTS[CellSnapshotStatus.LAND_MINE.ordinal()];
     }
 
     public static CellSnapshot ofNumber(int nearByLandMineCount) {
+        if (nearByLandMineCount >= 0 && nearByLandMineCount <= MAX_NEARBY_LAND_MINE_COUNT) {
+            return NUMBER_SNAPSHOTS[nearByLandMineCount];
+        }
         return new CellSnapshot(CellSnapshotStatus.NUMBER, nearByLandMineCount);
     }
 
     public static CellSnapshot ofUnchecked() {
-        return new CellSnapshot(CellSnapshotStatus.UNCHECKED, 0);
+        return STATUS_SNAPSHOTS[CellSnapshotStatus.UNCHECKED.ordinal()];
+    }
+
+    private static CellSnapshot[] createStatusSnapshots() {
+        CellSnapshotStatus[] statuses = CellSnapshotStatus.values();
+        CellSnapshot[] statusSnapshots = new CellSnapshot[statuses.length];
+        for (CellSnapshotStatus status : statuses) {
+            statusSnapshots[status.ordinal()] = new CellSnapshot(status, 0);
+        }
+        return statusSnapshots;
+    }
+
+    private static CellSnapshot[] createNumberSnapshots() {
+        CellSnapshot[] numberSnapshots = new CellSnapshot[MAX_NEARBY_LAND_MINE_COUNT + 1];
+        for (int count = 0; count <= MAX_NEARBY_LAND_MINE_COUNT; count++) {
+            numberSnapshots[count] = new CellSnapshot(CellSnapshotStatus.NUMBER, count);
+        }
+        return numberSnapshots;
     }
 
     public boolean isSameStatus(CellSnapshotStatus cellSnapshotStatus) {
@@ -10,6 +10,11 @@ public class LandMineCell implements Cell {
         return false;
     }
 
+    @Override
+    public int getNearbyLandMineCount() {
+        return 0;
+    }
+
     @Override
     public boolean isLandMine() {
         return true;
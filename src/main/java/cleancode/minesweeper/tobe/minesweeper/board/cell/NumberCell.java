@@ -14,6 +14,11 @@ public class NumberCell implements Cell {
         return true;
     }
 
+    @Override
+    public int getNearbyLandMineCount() {
+        return nearbyLandMineCount;
+    }
+
     @Override
     public boolean isLandMine() {
         return false;
@@ -0,0 +1,105 @@
+package cleancode.minesweeper.tobe.minesweeper.board.journal;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.MoveRecordable;
+import cleancode.minesweeper.tobe.minesweeper.board.MoveType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 게임 하나의 수를 파일 끝에 이어 쓰는 저널. 수를 하나씩 디스크에 내리지 않고
+ * batchSize 개를 모아 한 번의 write 와 force 로 커밋한다. 커밋 전의 수는 프로세스가 죽으면 잃는다.
+ * <p>
+ * 여기서 그룹 커밋은 이 저널 하나에 쌓인 수를 묶는 것뿐이다. 여러 게임의 저널을 함께 내리지 않고,
+ * 시간이 지났다고 내리지도 않으므로 batchSize 개가 모이기 전의 수는 {@link #commit()} 이나 {@link #close()} 를 불러야 남는다.
+ */
+public class MoveJournal implements MoveRecordable, AutoCloseable {
+
+    private final FileChannel channel;
+    private final ByteBuffer batch;
+
+    private MoveJournal(FileChannel channel, int batchSize) {
+        this.channel = channel;
+        this.batch = ByteBuffer.allocateDirect(Math.max(batchSize, 1) * MoveJournalFormat.RECORD_SIZE);
+    }
+
+    /**
+     * 새 저널 파일을 만들고 헤더를 바로 커밋한 뒤, 보드에서 두는 수를 기록하도록 연결한다.
+     */
+    public static MoveJournal start(Path path, GameBoard gameBoard, int batchSize) {
+        try {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE
+            );
+            writeHeader(channel, gameBoard);
+
+            MoveJournal moveJournal = new MoveJournal(channel, batchSize);
+            gameBoard.recordMovesTo(moveJournal);
+            return moveJournal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 파일을 만들 수 없습니다: " + path, e);
+        }
+    }
+
+    @Override
+    public void record(int index, MoveType moveType) {
+        batch.putInt(index);
+        batch.put((byte) moveType.getCode());
+        batch.putLong(System.currentTimeMillis());
+
+        if (!batch.hasRemaining()) {
+            commit();
+        }
+    }
+
+    public void commit() {
+        if (batch.position() == 0) {
+            return;
+        }
+
+        batch.flip();
+        try {
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 기록할 수 없습니다.", e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        try (channel) {
+            commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널을 닫을 수 없습니다.", e);
+        }
+    }
+
+    private static void writeHeader(FileChannel channel, GameBoard gameBoard) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(MoveJournalFormat.HEADER_SIZE);
+        header.putInt(MoveJournalFormat.MAGIC);
+        header.putShort(MoveJournalFormat.VERSION);
+        header.putShort((short) 0);
+        header.putInt(gameBoard.getRowSize());
+        header.putInt(gameBoard.getColSize());
+        header.putInt(gameBoard.getLandMineCount());
+        header.putLong(gameBoard.getSeed());
+        header.flip();
+
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(false);
+    }
+}
@@ -0,0 +1,20 @@
+package cleancode.minesweeper.tobe.minesweeper.board.journal;
+
+/**
+ * 저널 파일 형식. 모든 값은 big-endian 이다.
+ * <pre>
+ * 헤더: magic(int "MSWJ") | version(short) | reserved(short) | rowSize(int) | colSize(int) | landMineCount(int) | seed(long)
+ * 기록: index(int) | moveType(byte) | timestampMillis(long)
+ * </pre>
+ * 기록은 헤더 뒤에 이어 붙이기만 하며, 마지막에 잘린 기록은 읽을 때 버린다.
+ */
+final class MoveJournalFormat {
+
+    static final int MAGIC = 0x4D53574A;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 28;
+    static final int RECORD_SIZE = Integer.BYTES + Byte.BYTES + Long.BYTES;
+
+    private MoveJournalFormat() {
+    }
+}
@@ -0,0 +1,62 @@
+package cleancode.minesweeper.tobe.minesweeper.board.journal;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.MoveType;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomLevel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 저널 헤더의 시드로 같은 보드를 다시 만든 뒤 기록된 수를 차례로 두어 게임을 되살린다.
+ */
+public class MoveJournalReplayer {
+
+    public GameBoard replay(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return replay(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    public GameBoard replay(ByteBuffer journal) {
+        if (journal.remaining() < MoveJournalFormat.HEADER_SIZE || journal.getInt() != MoveJournalFormat.MAGIC) {
+            throw new IllegalArgumentException("지뢰찾기 저널 파일이 아닙니다.");
+        }
+        short version = journal.getShort();
+        if (version != MoveJournalFormat.VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 저널 버전입니다: " + version);
+        }
+        journal.getShort();
+
+        int rowSize = journal.getInt();
+        int colSize = journal.getInt();
+        int landMineCount = journal.getInt();
+        long seed = journal.getLong();
+
+        GameBoard gameBoard = new GameBoard(CustomLevel.of(rowSize, colSize, landMineCount), seed);
+        gameBoard.initializeGame();
+
+        while (journal.remaining() >= MoveJournalFormat.RECORD_SIZE) {
+            int index = journal.getInt();
+            MoveType moveType = MoveType.ofCode(journal.get());
+            journal.getLong();
+            applyMove(gameBoard, CellPosition.ofIndex(index, colSize), moveType);
+        }
+        return gameBoard;
+    }
+
+    private void applyMove(GameBoard gameBoard, CellPosition cellPosition, MoveType moveType) {
+        if (moveType == MoveType.FLAG) {
+            gameBoard.flagAt(cellPosition);
+            return;
+        }
+        gameBoard.openAt(cellPosition);
+    }
+}
@@ -0,0 +1,53 @@
+package cleancode.minesweeper.tobe.minesweeper.board.layout;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 지뢰 배치와 주변 지뢰 수까지 계산을 끝낸, 아직 아무 칸도 열리지 않은 보드의 불변 사본.
+ * 여러 게임이 같은 배치를 공유하고, 게임마다 셀 배열을 통째로 복사해서 시작한다.
+ */
+public class BoardLayout {
+
+    private final BoardLayoutKey key;
+    private final byte[] cells;
+
+    private BoardLayout(BoardLayoutKey key, byte[] cells) {
+        this.key = key;
+        this.cells = cells;
+    }
+
+    public static BoardLayout generate(GameLevel gameLevel, long seed) {
+        GameBoard gameBoard = new GameBoard(gameLevel, seed);
+        gameBoard.initializeGame();
+
+        byte[] cells = new byte[gameBoard.getCellCount()];
+        gameBoard.exportCellsTo(ByteBuffer.wrap(cells));
+        return new BoardLayout(BoardLayoutKey.of(gameLevel, seed), cells);
+    }
+
+    public BoardLayoutKey getKey() {
+        return key;
+    }
+
+    public long getSeed() {
+        return key.getSeed();
+    }
+
+    public boolean fits(GameLevel gameLevel) {
+        return key.fits(gameLevel);
+    }
+
+    /**
+     * 캐시 크기를 잴 때 쓰는 대략적인 메모리 사용량.
+     */
+    public long getWeightInBytes() {
+        return cells.length;
+    }
+
+    public ByteBuffer readCells() {
+        return ByteBuffer.wrap(cells).asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,67 @@
+package cleancode.minesweeper.tobe.minesweeper.board.layout;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * (레벨, 시드) 로 만든 보드 배치를 최근 사용 순으로 보관한다.
+ * 개수가 아니라 배치의 셀 바이트 합으로 크기를 재서, 큰 보드 몇 개가 작은 보드 수천 개를 밀어내도록 한다.
+ * 같은 키를 동시에 처음 요청하면 배치를 두 번 만들 수 있지만 결과가 같으므로 먼저 들어간 것을 쓴다.
+ */
+public class BoardLayoutCache {
+
+    private final long maxWeightInBytes;
+    private final LinkedHashMap<BoardLayoutKey, BoardLayout> layouts = new LinkedHashMap<>(16, 0.75f, true);
+    private long weightInBytes;
+
+    public BoardLayoutCache(long maxWeightInBytes) {
+        this.maxWeightInBytes = maxWeightInBytes;
+    }
+
+    public BoardLayout getOrGenerate(GameLevel gameLevel, long seed) {
+        BoardLayoutKey key = BoardLayoutKey.of(gameLevel, seed);
+        BoardLayout cached = find(key);
+        if (cached != null) {
+            return cached;
+        }
+        return put(BoardLayout.generate(gameLevel, seed));
+    }
+
+    public synchronized int size() {
+        return layouts.size();
+    }
+
+    public synchronized long getWeightInBytes() {
+        return weightInBytes;
+    }
+
+    private synchronized BoardLayout find(BoardLayoutKey key) {
+        return layouts.get(key);
+    }
+
+    private synchronized BoardLayout put(BoardLayout layout) {
+        BoardLayout existing = layouts.putIfAbsent(layout.getKey(), layout);
+        if (existing != null) {
+            return existing;
+        }
+
+        weightInBytes += layout.getWeightInBytes();
+        evictEldestUntilFits(layout.getKey());
+        return layout;
+    }
+
+    private void evictEldestUntilFits(BoardLayoutKey newestKey) {
+        Iterator<Map.Entry<BoardLayoutKey, BoardLayout>> eldest = layouts.entrySet().iterator();
+        while (weightInBytes > maxWeightInBytes && eldest.hasNext()) {
+            Map.Entry<BoardLayoutKey, BoardLayout> entry = eldest.next();
+            if (entry.getKey().equals(newestKey)) {
+                return;
+            }
+            weightInBytes -= entry.getValue().getWeightInBytes();
+            eldest.remove();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package cleancode.minesweeper.tobe.minesweeper.board.layout;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+public class BoardLayoutKey {
+
+    private final int rowSize;
+    private final int colSize;
+    private final int landMineCount;
+    private final long seed;
+
+    private BoardLayoutKey(int rowSize, int colSize, int landMineCount, long seed) {
+        this.rowSize = rowSize;
+        this.colSize = colSize;
+        this.landMineCount = landMineCount;
+        this.seed = seed;
+    }
+
+    public static BoardLayoutKey of(GameLevel gameLevel, long seed) {
+        return new BoardLayoutKey(gameLevel.getRowSize(), gameLevel.getColSize(), gameLevel.getLandMineCount(), seed);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean fits(GameLevel gameLevel) {
+        return rowSize == gameLevel.getRowSize()
+                && colSize == gameLevel.getColSize()
+                && landMineCount == gameLevel.getLandMineCount();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BoardLayoutKey that = (BoardLayoutKey) o;
+        return rowSize == that.rowSize
+                && colSize == that.colSize
+                && landMineCount == that.landMineCount
+                && seed == that.seed;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = rowSize;
+        result = 31 * result + colSize;
+        result = 31 * result + landMineCount;
+        result = 31 * result + Long.hashCode(seed);
+        return result;
+    }
+}
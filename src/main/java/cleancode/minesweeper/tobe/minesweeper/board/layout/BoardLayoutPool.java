@@ -0,0 +1,58 @@
+package cleancode.minesweeper.tobe.minesweeper.board.layout;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 한 레벨의 새 보드 배치를 백그라운드 스레드에서 미리 만들어 둔다.
+ * 꺼낼 배치가 없으면 호출한 스레드에서 바로 만든다.
+ */
+public class BoardLayoutPool implements AutoCloseable {
+
+    private final GameLevel gameLevel;
+    private final BlockingQueue<BoardLayout> layouts;
+    private final Thread generatorThread;
+
+    public BoardLayoutPool(GameLevel gameLevel, int capacity) {
+        this.gameLevel = gameLevel;
+        this.layouts = new ArrayBlockingQueue<>(capacity);
+        this.generatorThread = new Thread(this::fillContinuously, "board-layout-generator");
+        this.generatorThread.setDaemon(true);
+    }
+
+    public void start() {
+        generatorThread.start();
+    }
+
+    public BoardLayout take() {
+        BoardLayout layout = layouts.poll();
+        if (layout != null) {
+            return layout;
+        }
+        return BoardLayout.generate(gameLevel, ThreadLocalRandom.current().nextLong());
+    }
+
+    public int getReadyCount() {
+        return layouts.size();
+    }
+
+    @Override
+    public void close() {
+        generatorThread.interrupt();
+    }
+
+    private void fillContinuously() {
+        SplittableRandom seedRandom = new SplittableRandom(ThreadLocalRandom.current().nextLong());
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                layouts.put(BoardLayout.generate(gameLevel, seedRandom.nextLong()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
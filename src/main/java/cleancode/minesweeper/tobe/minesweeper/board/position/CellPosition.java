@@ -1,9 +1,15 @@
 package cleancode.minesweeper.tobe.minesweeper.board.position;
 
-import java.util.Objects;
-
+/**
+ * 좌표는 불변이므로 0 ~ 127 행 / 열의 좌표는 클래스를 올릴 때 한 번에 만들어 두고 {@link #of(int, int)} 가 같은 객체를 돌려준다.
+ * 처음부터 다 채워 두므로 HTTP / NIO / 시뮬레이터 스레드가 동시에 불러도 같은 좌표는 항상 같은 객체다.
+ * 128 을 넘는 좌표(LARGE 500x500 등)는 부를 때마다 새로 만든다. 모든 보드 크기를 미리 만들어 두면 쓰지 않는 크기에도 메모리를 쓰기 때문이다.
+ */
 public class CellPosition {
 
+    private static final int CACHED_INDEX_LIMIT = 128;
+    private static final CellPosition[][] CACHE = createCache();
+
     private final int rowIndex;
     private final int colIndex;
 
@@ -17,9 +23,35 @@ public class CellPosition {
     }
 
     public static CellPosition of(int rowIndex, int colIndex) {
+        if (isCacheable(rowIndex, colIndex)) {
+            return findCached(rowIndex, colIndex);
+        }
         return new CellPosition(rowIndex, colIndex);
     }
 
+    public static CellPosition ofIndex(int index, int colSize) {
+        return of(index / colSize, index % colSize);
+    }
+
+    private static boolean isCacheable(int rowIndex, int colIndex) {
+        return rowIndex >= 0 && rowIndex < CACHED_INDEX_LIMIT
+                && colIndex >= 0 && colIndex < CACHED_INDEX_LIMIT;
+    }
+
+    private static CellPosition findCached(int rowIndex, int colIndex) {
+        return CACHE[rowIndex][colIndex];
+    }
+
+    private static CellPosition[][] createCache() {
+        CellPosition[][] cache = new CellPosition[CACHED_INDEX_LIMIT][CACHED_INDEX_LIMIT];
+        for (int rowIndex = 0; rowIndex < CACHED_INDEX_LIMIT; rowIndex++) {
+            for (int colIndex = 0; colIndex < CACHED_INDEX_LIMIT; colIndex++) {
+                cache[rowIndex][colIndex] = new CellPosition(rowIndex, colIndex);
+            }
+        }
+        return cache;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -35,7 +67,7 @@ public class CellPosition {
 
     @Override
     public int hashCode() {
-        return Objects.hash(rowIndex, colIndex);
+        return 31 * rowIndex + colIndex;
     }
 
     public boolean isRowIndexMoreThanOrEqual(int rowSize) {
@@ -54,6 +86,10 @@ public class CellPosition {
         return colIndex;
     }
 
+    public int toIndex(int colSize) {
+        return rowIndex * colSize + colIndex;
+    }
+
     public CellPosition calculatePositionBy(RelativePosition relativePosition) {
         if (this.canCalculatePositionBy(relativePosition)) {
             return CellPosition.of(
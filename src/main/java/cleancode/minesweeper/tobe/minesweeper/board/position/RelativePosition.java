@@ -1,10 +1,12 @@
 package cleancode.minesweeper.tobe.minesweeper.board.position;
 
 import java.util.List;
-import java.util.Objects;
 
 public class RelativePosition {
 
+    private static final int CACHED_DELTA_LIMIT = 1;
+    private static final RelativePosition[][] CACHE = createCache();
+
     public static final List<RelativePosition> SURROUNDED_POSITIONS = List.of(
             RelativePosition.of(-1, -1),
             RelativePosition.of(-1, 0),
@@ -24,9 +26,27 @@ public class RelativePosition {
     }
 
     public static RelativePosition of(int deltaRow, int deltaCol) {
+        if (isCacheable(deltaRow) && isCacheable(deltaCol)) {
+            return CACHE[deltaRow + CACHED_DELTA_LIMIT][deltaCol + CACHED_DELTA_LIMIT];
+        }
         return new RelativePosition(deltaRow, deltaCol);
     }
 
+    private static RelativePosition[][] createCache() {
+        int size = CACHED_DELTA_LIMIT * 2 + 1;
+        RelativePosition[][] cache = new RelativePosition[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                cache[row][col] = new RelativePosition(row - CACHED_DELTA_LIMIT, col - CACHED_DELTA_LIMIT);
+            }
+        }
+        return cache;
+    }
+
+    private static boolean isCacheable(int delta) {
+        return delta >= -CACHED_DELTA_LIMIT && delta <= CACHED_DELTA_LIMIT;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -49,6 +69,6 @@ public class RelativePosition {
 
     @Override
     public int hashCode() {
-        return Objects.hash(deltaRow, deltaCol);
+        return 31 * deltaRow + deltaCol;
     }
 }
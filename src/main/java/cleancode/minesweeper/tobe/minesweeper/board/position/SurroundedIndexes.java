@@ -0,0 +1,69 @@
+package cleancode.minesweeper.tobe.minesweeper.board.position;
+
+import java.util.List;
+
+/**
+ * 보드의 셀을 한 줄로 편 인덱스(row * colSize + col) 기준으로 주변 8칸의 인덱스를 찾는다.
+ * 보드 크기별 오프셋을 미리 계산해 두고, 호출하는 쪽이 넘긴 배열에 결과를 채워 할당 없이 동작한다.
+ */
+public class SurroundedIndexes {
+
+    public static final int MAX_SURROUNDED_COUNT = RelativePosition.SURROUNDED_POSITIONS.size();
+
+    private final int rowSize;
+    private final int colSize;
+    private final int[] deltaRows = new int[MAX_SURROUNDED_COUNT];
+    private final int[] deltaCols = new int[MAX_SURROUNDED_COUNT];
+    private final int[] indexOffsets = new int[MAX_SURROUNDED_COUNT];
+
+    public SurroundedIndexes(int rowSize, int colSize) {
+        this.rowSize = rowSize;
+        this.colSize = colSize;
+
+        List<RelativePosition> surroundedPositions = RelativePosition.SURROUNDED_POSITIONS;
+        for (int i = 0; i < MAX_SURROUNDED_COUNT; i++) {
+            RelativePosition relativePosition = surroundedPositions.get(i);
+            deltaRows[i] = relativePosition.getDeltaRow();
+            deltaCols[i] = relativePosition.getDeltaCol();
+            indexOffsets[i] = relativePosition.getDeltaRow() * colSize + relativePosition.getDeltaCol();
+        }
+    }
+
+    public static SurroundedIndexes of(int rowSize, int colSize) {
+        return new SurroundedIndexes(rowSize, colSize);
+    }
+
+    /**
+     * @param surroundedIndexes 길이가 {@link #MAX_SURROUNDED_COUNT} 이상인 배열
+     * @return 배열 앞에서부터 채운 주변 셀의 개수
+     */
+    public int findAround(int index, int[] surroundedIndexes) {
+        int row = index / colSize;
+        int col = index % colSize;
+
+        if (isInner(row, col)) {
+            for (int i = 0; i < MAX_SURROUNDED_COUNT; i++) {
+                surroundedIndexes[i] = index + indexOffsets[i];
+            }
+            return MAX_SURROUNDED_COUNT;
+        }
+
+        int count = 0;
+        for (int i = 0; i < MAX_SURROUNDED_COUNT; i++) {
+            if (isOnBoard(row + deltaRows[i], col + deltaCols[i])) {
+                surroundedIndexes[count++] = index + indexOffsets[i];
+            }
+        }
+        return count;
+    }
+
+    private boolean isInner(int row, int col) {
+        return row > 0 && row < rowSize - 1
+                && col > 0 && col < colSize - 1;
+    }
+
+    private boolean isOnBoard(int row, int col) {
+        return row >= 0 && row < rowSize
+                && col >= 0 && col < colSize;
+    }
+}
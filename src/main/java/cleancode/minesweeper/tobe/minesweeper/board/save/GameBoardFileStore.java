@@ -0,0 +1,85 @@
+package cleancode.minesweeper.tobe.minesweeper.board.save;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link GameBoardSaveFormat} 으로 보드를 파일에 저장하고 읽는다. 파일은 메모리 매핑해서 한 번에 쓰고 읽는다.
+ * 여러 보드를 한 파일에 체크포인트할 때는 앞에 보드 수(int)를 두고 보드를 이어 붙인다.
+ */
+public class GameBoardFileStore {
+
+    private static final int BOARD_COUNT_SIZE = Integer.BYTES;
+
+    public void save(GameBoard gameBoard, Path path) {
+        try (FileChannel channel = openForWrite(path)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, GameBoardSaveFormat.sizeOf(gameBoard));
+            GameBoardSaveFormat.write(gameBoard, buffer);
+            buffer.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("보드를 저장할 수 없습니다: " + path, e);
+        }
+    }
+
+    public GameBoard load(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return GameBoardSaveFormat.read(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("보드를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    public void saveAll(List<GameBoard> gameBoards, Path path) {
+        long fileSize = BOARD_COUNT_SIZE;
+        for (GameBoard gameBoard : gameBoards) {
+            fileSize += GameBoardSaveFormat.sizeOf(gameBoard);
+        }
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("한 파일에 저장하기에는 보드가 너무 큽니다.");
+        }
+
+        try (FileChannel channel = openForWrite(path)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            buffer.putInt(gameBoards.size());
+            for (GameBoard gameBoard : gameBoards) {
+                GameBoardSaveFormat.write(gameBoard, buffer);
+            }
+            buffer.force();
+        } catch (IOException e) {
+            throw new UncheckedIOException("보드를 저장할 수 없습니다: " + path, e);
+        }
+    }
+
+    public List<GameBoard> loadAll(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int boardCount = buffer.getInt();
+
+            List<GameBoard> gameBoards = new ArrayList<>(boardCount);
+            for (int i = 0; i < boardCount; i++) {
+                gameBoards.add(GameBoardSaveFormat.read(buffer));
+            }
+            return gameBoards;
+        } catch (IOException e) {
+            throw new UncheckedIOException("보드를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private FileChannel openForWrite(Path path) throws IOException {
+        return FileChannel.open(path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        );
+    }
+}
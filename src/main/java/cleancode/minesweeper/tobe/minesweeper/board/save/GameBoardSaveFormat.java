@@ -0,0 +1,74 @@
+package cleancode.minesweeper.tobe.minesweeper.board.save;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.GameStatus;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomLevel;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 보드 하나의 저장 형식. 모든 값은 big-endian 이다.
+ * <pre>
+ * magic(int "MSWP") | version(short) | status(byte) | reserved(byte)
+ * rowSize(int) | colSize(int) | landMineCount(int) | seed(long)
+ * cells(rowSize * colSize bytes, 셀마다 주변 지뢰 수 4비트 + 지뢰 / 열림 / 깃발 비트)
+ * </pre>
+ */
+public final class GameBoardSaveFormat {
+
+    public static final int HEADER_SIZE = 28;
+
+    private static final int MAGIC = 0x4D535750;
+    private static final short VERSION = 1;
+    private static final GameStatus[] GAME_STATUSES = GameStatus.values();
+
+    private GameBoardSaveFormat() {
+    }
+
+    public static int sizeOf(GameBoard gameBoard) {
+        return HEADER_SIZE + gameBoard.getCellCount();
+    }
+
+    public static void write(GameBoard gameBoard, ByteBuffer target) {
+        target.putInt(MAGIC);
+        target.putShort(VERSION);
+        target.put((byte) gameBoard.getGameStatus().ordinal());
+        target.put((byte) 0);
+        target.putInt(gameBoard.getRowSize());
+        target.putInt(gameBoard.getColSize());
+        target.putInt(gameBoard.getLandMineCount());
+        target.putLong(gameBoard.getSeed());
+        gameBoard.exportCellsTo(target);
+    }
+
+    public static GameBoard read(ByteBuffer source) {
+        if (source.remaining() < HEADER_SIZE || source.getInt() != MAGIC) {
+            throw new IllegalArgumentException("지뢰찾기 저장 파일이 아닙니다.");
+        }
+        short version = source.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 저장 파일 버전입니다: " + version);
+        }
+
+        int statusOrdinal = source.get();
+        source.get();
+        int rowSize = source.getInt();
+        int colSize = source.getInt();
+        int landMineCount = source.getInt();
+        long seed = source.getLong();
+
+        if (statusOrdinal < 0 || statusOrdinal >= GAME_STATUSES.length
+                || rowSize <= 0 || colSize <= 0
+                || landMineCount < 0 || landMineCount > (long) rowSize * colSize
+                || source.remaining() < (long) rowSize * colSize) {
+            throw new IllegalArgumentException("저장 파일이 손상되었습니다.");
+        }
+
+        return GameBoard.restore(
+                CustomLevel.of(rowSize, colSize, landMineCount),
+                seed,
+                GAME_STATUSES[statusOrdinal],
+                source
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package cleancode.minesweeper.tobe.minesweeper.board.storage;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.Cell;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+
+import java.nio.ByteBuffer;
+
+public interface BoardStorage {
+
+    int getRowSize();
+
+    int getColSize();
+
+    int getCellCount();
+
+    void clear();
+
+    /**
+     * 지뢰를 놓는다. 셀의 열림 / 깃발 상태는 유지하고 카운터를 맞춘다. 주변 지뢰 수는 호출한 쪽에서 고친다.
+     */
+    void placeLandMineAt(int index);
+
+    /**
+     * 지뢰를 치운다. 셀의 열림 / 깃발 상태는 유지하고 카운터를 맞춘다. 주변 지뢰 수는 호출한 쪽에서 다시 쓴다.
+     */
+    void removeLandMineAt(int index);
+
+    void updateNearbyLandMineCountAt(int index, int nearbyLandMineCount);
+
+    boolean isLandMineAt(int index);
+
+    boolean hasLandMineCountAt(int index);
+
+    int getNearbyLandMineCountAt(int index);
+
+    boolean isOpenedAt(int index);
+
+    boolean isFlaggedAt(int index);
+
+    boolean isCheckedAt(int index);
+
+    void openAt(int index);
+
+    void flagAt(int index);
+
+    int getOpenedSafeCellCount();
+
+    int getFlaggedLandMineCount();
+
+    Cell findCellAt(int index);
+
+    CellSnapshot getSnapshotAt(int index);
+
+    /**
+     * 모든 셀을 인덱스 순서대로 한 칸에 byte 하나씩({@link CellBits} 형식) target 에 쓴다.
+     */
+    void exportCellsTo(ByteBuffer target);
+
+    /**
+     * {@link #exportCellsTo(ByteBuffer)} 로 쓴 셀을 읽어 셀 상태와 열린 칸 / 찾은 지뢰 카운터를 되살린다.
+     */
+    void importCellsFrom(ByteBuffer source);
+}
@@ -0,0 +1,7 @@
+package cleancode.minesweeper.tobe.minesweeper.board.storage;
+
+@FunctionalInterface
+public interface BoardStorageFactory {
+
+    BoardStorage create(int rowSize, int colSize);
+}
@@ -0,0 +1,39 @@
+package cleancode.minesweeper.tobe.minesweeper.board.storage;
+
+/**
+ * 셀 하나를 byte 하나로 나타내는 형식. {@link PackedBoardStorage} 의 내부 표현이자
+ * 저장소 밖으로 셀을 내보내고 들여올 때의 공통 형식이다.
+ */
+final class CellBits {
+
+    static final int NEARBY_LAND_MINE_COUNT_MASK = 0b0000_1111;
+    static final int LAND_MINE_BIT = 0b0001_0000;
+    static final int OPENED_BIT = 0b0010_0000;
+    static final int FLAGGED_BIT = 0b0100_0000;
+    static final int STATE_MASK = OPENED_BIT | FLAGGED_BIT;
+
+    private CellBits() {
+    }
+
+    static byte encode(boolean landMine, boolean opened, boolean flagged, int nearbyLandMineCount) {
+        int bits = nearbyLandMineCount & NEARBY_LAND_MINE_COUNT_MASK;
+        if (landMine) {
+            bits |= LAND_MINE_BIT;
+        }
+        if (opened) {
+            bits |= OPENED_BIT;
+        }
+        if (flagged) {
+            bits |= FLAGGED_BIT;
+        }
+        return (byte) bits;
+    }
+
+    static boolean hasBit(byte cell, int bit) {
+        return (cell & bit) != 0;
+    }
+
+    static int nearbyLandMineCountOf(byte cell) {
+        return cell & NEARBY_LAND_MINE_COUNT_MASK;
+    }
+}
@@ -0,0 +1,204 @@
+package cleancode.minesweeper.tobe.minesweeper.board.storage;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.Cell;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.EmptyCell;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.LandMineCell;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.NumberCell;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 셀마다 {@link Cell} 객체를 하나씩 두는 기존 방식의 보드 저장소.
+ */
+public class ObjectBoardStorage implements BoardStorage {
+
+    private final Cell[][] board;
+    private int openedSafeCellCount;
+    private int flaggedLandMineCount;
+
+    public ObjectBoardStorage(int rowSize, int colSize) {
+        this.board = new Cell[rowSize][colSize];
+    }
+
+    public static ObjectBoardStorage of(int rowSize, int colSize) {
+        return new ObjectBoardStorage(rowSize, colSize);
+    }
+
+    @Override
+    public int getRowSize() {
+        return board.length;
+    }
+
+    @Override
+    public int getColSize() {
+        return board[0].length;
+    }
+
+    @Override
+    public int getCellCount() {
+        return getRowSize() * getColSize();
+    }
+
+    @Override
+    public void clear() {
+        for (int row = 0; row < board.length; row++) {
+            for (int col = 0; col < board[row].length; col++) {
+                board[row][col] = new EmptyCell();
+            }
+        }
+        openedSafeCellCount = 0;
+        flaggedLandMineCount = 0;
+    }
+
+    @Override
+    public void placeLandMineAt(int index) {
+        Cell cell = findCellAt(index);
+        if (cell.isLandMine()) {
+            return;
+        }
+        replaceCellAt(index, new LandMineCell());
+        if (cell.isFlagged()) {
+            flaggedLandMineCount++;
+        }
+        if (cell.isOpened()) {
+            openedSafeCellCount--;
+        }
+    }
+
+    @Override
+    public void removeLandMineAt(int index) {
+        Cell cell = findCellAt(index);
+        if (!cell.isLandMine()) {
+            return;
+        }
+        replaceCellAt(index, new EmptyCell());
+        if (cell.isFlagged()) {
+            flaggedLandMineCount--;
+        }
+        if (cell.isOpened()) {
+            openedSafeCellCount++;
+        }
+    }
+
+    @Override
+    public void updateNearbyLandMineCountAt(int index, int nearbyLandMineCount) {
+        if (nearbyLandMineCount == 0) {
+            replaceCellAt(index, new EmptyCell());
+            return;
+        }
+        replaceCellAt(index, new NumberCell(nearbyLandMineCount));
+    }
+
+    @Override
+    public boolean isLandMineAt(int index) {
+        return findCellAt(index).isLandMine();
+    }
+
+    @Override
+    public boolean hasLandMineCountAt(int index) {
+        return findCellAt(index).hasLandMineCount();
+    }
+
+    @Override
+    public int getNearbyLandMineCountAt(int index) {
+        return findCellAt(index).getNearbyLandMineCount();
+    }
+
+    @Override
+    public boolean isOpenedAt(int index) {
+        return findCellAt(index).isOpened();
+    }
+
+    @Override
+    public boolean isFlaggedAt(int index) {
+        return findCellAt(index).isFlagged();
+    }
+
+    @Override
+    public boolean isCheckedAt(int index) {
+        return findCellAt(index).isChecked();
+    }
+
+    @Override
+    public void openAt(int index) {
+        Cell cell = findCellAt(index);
+        if (cell.isOpened()) {
+            return;
+        }
+        cell.open();
+        if (!cell.isLandMine()) {
+            openedSafeCellCount++;
+        }
+    }
+
+    @Override
+    public void flagAt(int index) {
+        Cell cell = findCellAt(index);
+        if (cell.isFlagged()) {
+            return;
+        }
+        cell.flag();
+        if (cell.isLandMine()) {
+            flaggedLandMineCount++;
+        }
+    }
+
+    @Override
+    public int getOpenedSafeCellCount() {
+        return openedSafeCellCount;
+    }
+
+    @Override
+    public int getFlaggedLandMineCount() {
+        return flaggedLandMineCount;
+    }
+
+    @Override
+    public Cell findCellAt(int index) {
+        return board[index / getColSize()][index % getColSize()];
+    }
+
+    @Override
+    public CellSnapshot getSnapshotAt(int index) {
+        return findCellAt(index).getSnapshot();
+    }
+
+    @Override
+    public void exportCellsTo(ByteBuffer target) {
+        for (int index = 0; index < getCellCount(); index++) {
+            Cell cell = findCellAt(index);
+            target.put(CellBits.encode(cell.isLandMine(), cell.isOpened(), cell.isFlagged(), cell.getNearbyLandMineCount()));
+        }
+    }
+
+    @Override
+    public void importCellsFrom(ByteBuffer source) {
+        clear();
+        for (int index = 0; index < getCellCount(); index++) {
+            byte bits = source.get();
+            if (CellBits.hasBit(bits, CellBits.LAND_MINE_BIT)) {
+                placeLandMineAt(index);
+            } else {
+                updateNearbyLandMineCountAt(index, CellBits.nearbyLandMineCountOf(bits));
+            }
+            if (CellBits.hasBit(bits, CellBits.OPENED_BIT)) {
+                openAt(index);
+            }
+            if (CellBits.hasBit(bits, CellBits.FLAGGED_BIT)) {
+                flagAt(index);
+            }
+        }
+    }
+
+    private void replaceCellAt(int index, Cell cell) {
+        Cell previous = findCellAt(index);
+        if (previous.isFlagged()) {
+            cell.flag();
+        }
+        if (previous.isOpened()) {
+            cell.open();
+        }
+        board[index / getColSize()][index % getColSize()] = cell;
+    }
+}
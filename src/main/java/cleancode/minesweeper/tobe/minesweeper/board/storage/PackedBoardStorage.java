@@ -0,0 +1,214 @@
+package cleancode.minesweeper.tobe.minesweeper.board.storage;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.Cell;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 셀 하나를 byte 하나에 담는 보드 저장소.
+ * 하위 4비트는 주변 지뢰 수(0~8), 그 위로 지뢰 / 열림 / 깃발 여부를 한 비트씩 사용한다. ({@link CellBits})
+ */
+public class PackedBoardStorage implements BoardStorage {
+
+    private final int rowSize;
+    private final int colSize;
+    private final byte[] cells;
+    private int openedSafeCellCount;
+    private int flaggedLandMineCount;
+
+    public PackedBoardStorage(int rowSize, int colSize) {
+        this.rowSize = rowSize;
+        this.colSize = colSize;
+        this.cells = new byte[rowSize * colSize];
+    }
+
+    public static PackedBoardStorage of(int rowSize, int colSize) {
+        return new PackedBoardStorage(rowSize, colSize);
+    }
+
+    @Override
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    @Override
+    public int getColSize() {
+        return colSize;
+    }
+
+    @Override
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(cells, (byte) 0);
+        openedSafeCellCount = 0;
+        flaggedLandMineCount = 0;
+    }
+
+    @Override
+    public void placeLandMineAt(int index) {
+        byte cell = cells[index];
+        if (CellBits.hasBit(cell, CellBits.LAND_MINE_BIT)) {
+            return;
+        }
+        cells[index] = (byte) ((cell & CellBits.STATE_MASK) | CellBits.LAND_MINE_BIT);
+        if (CellBits.hasBit(cell, CellBits.FLAGGED_BIT)) {
+            flaggedLandMineCount++;
+        }
+        if (CellBits.hasBit(cell, CellBits.OPENED_BIT)) {
+            openedSafeCellCount--;
+        }
+    }
+
+    @Override
+    public void removeLandMineAt(int index) {
+        byte cell = cells[index];
+        if (!CellBits.hasBit(cell, CellBits.LAND_MINE_BIT)) {
+            return;
+        }
+        cells[index] = (byte) (cell & CellBits.STATE_MASK);
+        if (CellBits.hasBit(cell, CellBits.FLAGGED_BIT)) {
+            flaggedLandMineCount--;
+        }
+        if (CellBits.hasBit(cell, CellBits.OPENED_BIT)) {
+            openedSafeCellCount++;
+        }
+    }
+
+    @Override
+    public void updateNearbyLandMineCountAt(int index, int nearbyLandMineCount) {
+        cells[index] = (byte) ((cells[index] & ~CellBits.NEARBY_LAND_MINE_COUNT_MASK) | nearbyLandMineCount);
+    }
+
+    @Override
+    public boolean isLandMineAt(int index) {
+        return hasBit(index, CellBits.LAND_MINE_BIT);
+    }
+
+    @Override
+    public boolean hasLandMineCountAt(int index) {
+        return !isLandMineAt(index) && getNearbyLandMineCountAt(index) != 0;
+    }
+
+    @Override
+    public boolean isOpenedAt(int index) {
+        return hasBit(index, CellBits.OPENED_BIT);
+    }
+
+    @Override
+    public boolean isFlaggedAt(int index) {
+        return hasBit(index, CellBits.FLAGGED_BIT);
+    }
+
+    @Override
+    public boolean isCheckedAt(int index) {
+        if (isLandMineAt(index)) {
+            return isFlaggedAt(index);
+        }
+        return isOpenedAt(index);
+    }
+
+    @Override
+    public void openAt(int index) {
+        if (isOpenedAt(index)) {
+            return;
+        }
+        cells[index] |= CellBits.OPENED_BIT;
+        if (!isLandMineAt(index)) {
+            openedSafeCellCount++;
+        }
+    }
+
+    @Override
+    public void flagAt(int index) {
+        if (isFlaggedAt(index)) {
+            return;
+        }
+        cells[index] |= CellBits.FLAGGED_BIT;
+        if (isLandMineAt(index)) {
+            flaggedLandMineCount++;
+        }
+    }
+
+    @Override
+    public int getOpenedSafeCellCount() {
+        return openedSafeCellCount;
+    }
+
+    @Override
+    public int getFlaggedLandMineCount() {
+        return flaggedLandMineCount;
+    }
+
+    @Override
+    public Cell findCellAt(int index) {
+        return new PackedCell(this, index);
+    }
+
+    @Override
+    public CellSnapshot getSnapshotAt(int index) {
+        if (isLandMineAt(index)) {
+            return getLandMineSnapshotAt(index);
+        }
+        if (isOpenedAt(index)) {
+            return getOpenedSnapshotAt(index);
+        }
+        if (isFlaggedAt(index)) {
+            return CellSnapshot.ofFlag();
+        }
+        return CellSnapshot.ofUnchecked();
+    }
+
+    @Override
+    public int getNearbyLandMineCountAt(int index) {
+        return CellBits.nearbyLandMineCountOf(cells[index]);
+    }
+
+    @Override
+    public void exportCellsTo(ByteBuffer target) {
+        target.put(cells);
+    }
+
+    @Override
+    public void importCellsFrom(ByteBuffer source) {
+        source.get(cells);
+
+        openedSafeCellCount = 0;
+        flaggedLandMineCount = 0;
+        for (byte cell : cells) {
+            boolean landMine = CellBits.hasBit(cell, CellBits.LAND_MINE_BIT);
+            if (!landMine && CellBits.hasBit(cell, CellBits.OPENED_BIT)) {
+                openedSafeCellCount++;
+            }
+            if (landMine && CellBits.hasBit(cell, CellBits.FLAGGED_BIT)) {
+                flaggedLandMineCount++;
+            }
+        }
+    }
+
+    private CellSnapshot getLandMineSnapshotAt(int index) {
+        if (isCheckedAt(index)) {
+            return CellSnapshot.ofLandMine();
+        }
+        if (isFlaggedAt(index)) {
+            return CellSnapshot.ofFlag();
+        }
+        return CellSnapshot.ofUnchecked();
+    }
+
+    private CellSnapshot getOpenedSnapshotAt(int index) {
+        if (hasLandMineCountAt(index)) {
+            return CellSnapshot.ofNumber(getNearbyLandMineCountAt(index));
+        }
+        return CellSnapshot.ofEmpty();
+    }
+
+    private boolean hasBit(int index, int bit) {
+        return CellBits.hasBit(cells[index], bit);
+    }
+}
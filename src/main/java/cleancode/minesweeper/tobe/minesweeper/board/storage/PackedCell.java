@@ -0,0 +1,63 @@
+package cleancode.minesweeper.tobe.minesweeper.board.storage;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.Cell;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+
+class PackedCell implements Cell {
+
+    private final PackedBoardStorage storage;
+    private final int index;
+
+    PackedCell(PackedBoardStorage storage, int index) {
+        this.storage = storage;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasLandMineCount() {
+        return storage.hasLandMineCountAt(index);
+    }
+
+    @Override
+    public int getNearbyLandMineCount() {
+        if (storage.isLandMineAt(index)) {
+            return 0;
+        }
+        return storage.getNearbyLandMineCountAt(index);
+    }
+
+    @Override
+    public boolean isLandMine() {
+        return storage.isLandMineAt(index);
+    }
+
+    @Override
+    public CellSnapshot getSnapshot() {
+        return storage.getSnapshotAt(index);
+    }
+
+    @Override
+    public void flag() {
+        storage.flagAt(index);
+    }
+
+    @Override
+    public void open() {
+        storage.openAt(index);
+    }
+
+    @Override
+    public boolean isChecked() {
+        return storage.isCheckedAt(index);
+    }
+
+    @Override
+    public boolean isOpened() {
+        return storage.isOpenedAt(index);
+    }
+
+    @Override
+    public boolean isFlagged() {
+        return storage.isFlaggedAt(index);
+    }
+}
@@ -0,0 +1,36 @@
+package cleancode.minesweeper.tobe.minesweeper.gamelevel;
+
+/**
+ * 저장 파일이나 저널처럼 크기와 지뢰 수를 밖에서 받아 오는 레벨.
+ */
+public class CustomLevel implements GameLevel {
+
+    private final int rowSize;
+    private final int colSize;
+    private final int landMineCount;
+
+    private CustomLevel(int rowSize, int colSize, int landMineCount) {
+        this.rowSize = rowSize;
+        this.colSize = colSize;
+        this.landMineCount = landMineCount;
+    }
+
+    public static CustomLevel of(int rowSize, int colSize, int landMineCount) {
+        return new CustomLevel(rowSize, colSize, landMineCount);
+    }
+
+    @Override
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    @Override
+    public int getColSize() {
+        return colSize;
+    }
+
+    @Override
+    public int getLandMineCount() {
+        return landMineCount;
+    }
+}
@@ -1,5 +1,7 @@
 package cleancode.minesweeper.tobe.minesweeper.gamelevel;
 
+import java.util.OptionalLong;
+
 public interface GameLevel {
 
     int getRowSize();
@@ -7,4 +9,11 @@ public interface GameLevel {
     int getColSize();
 
     int getLandMineCount();
+
+    /**
+     * 값이 있으면 보드를 항상 이 시드로 만들어 같은 배치를 재현한다.
+     */
+    default OptionalLong getSeed() {
+        return OptionalLong.empty();
+    }
 }
@@ -0,0 +1,41 @@
+package cleancode.minesweeper.tobe.minesweeper.gamelevel;
+
+import java.util.OptionalLong;
+
+/**
+ * 다른 레벨의 크기와 지뢰 수를 그대로 쓰면서 시드만 고정한다.
+ */
+public class SeededLevel implements GameLevel {
+
+    private final GameLevel gameLevel;
+    private final long seed;
+
+    private SeededLevel(GameLevel gameLevel, long seed) {
+        this.gameLevel = gameLevel;
+        this.seed = seed;
+    }
+
+    public static SeededLevel of(GameLevel gameLevel, long seed) {
+        return new SeededLevel(gameLevel, seed);
+    }
+
+    @Override
+    public int getRowSize() {
+        return gameLevel.getRowSize();
+    }
+
+    @Override
+    public int getColSize() {
+        return gameLevel.getColSize();
+    }
+
+    @Override
+    public int getLandMineCount() {
+        return gameLevel.getLandMineCount();
+    }
+
+    @Override
+    public OptionalLong getSeed() {
+        return OptionalLong.of(seed);
+    }
+}
@@ -0,0 +1,12 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+public enum BoardRenderMode {
+    FULL("매 프레임 보드 전체 출력"),
+    DIFF("이전 프레임과 달라진 행만 ANSI 커서 이동으로 다시 출력");
+
+    private final String description;
+
+    BoardRenderMode(String description) {
+        this.description = description;
+    }
+}
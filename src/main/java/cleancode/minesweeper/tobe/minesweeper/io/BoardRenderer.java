@@ -0,0 +1,122 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignProvider;
+
+/**
+ * 보드 한 프레임을 재사용하는 StringBuilder 에 그린다.
+ * DIFF 모드에서는 첫 프레임만 화면을 지우고 전부 그리며, 이후에는 바뀐 행만 ANSI 커서 이동으로 덮어쓴 뒤
+ * 커서를 보드 아래로 옮기고 그 아래를 지운다. 그래서 보드와 안내 문구가 터미널 높이 안에 들어가야 한다.
+ */
+public class BoardRenderer {
+
+    private static final String ESC = "\u001B[";
+    private static final String CLEAR_SCREEN = ESC + "2J";
+    private static final String CLEAR_LINE_TO_END = ESC + "K";
+    private static final String CLEAR_SCREEN_TO_END = ESC + "J";
+    private static final int HEADER_LINE_COUNT = 1;
+
+    private final BoardRenderMode renderMode;
+    private final StringBuilder frame = new StringBuilder();
+    private CellSnapshot[] rowSnapshots = new CellSnapshot[0];
+    private CellSnapshot[] previousSnapshots;
+    private String colAlphabets = "";
+
+    public BoardRenderer(BoardRenderMode renderMode) {
+        this.renderMode = renderMode;
+    }
+
+    public StringBuilder render(GameBoard board) {
+        frame.setLength(0);
+        prepareBuffers(board);
+
+        if (renderMode == BoardRenderMode.DIFF) {
+            renderChangedRows(board);
+            return frame;
+        }
+        renderWholeBoard(board);
+        return frame;
+    }
+
+    private void prepareBuffers(GameBoard board) {
+        int colSize = board.getColSize();
+        if (rowSnapshots.length != colSize) {
+            rowSnapshots = new CellSnapshot[colSize];
+            colAlphabets = generateColAlphabets(colSize);
+            previousSnapshots = null;
+        }
+    }
+
+    private void renderWholeBoard(GameBoard board) {
+        frame.append("    ").append(colAlphabets).append('\n');
+        for (int row = 0; row < board.getRowSize(); row++) {
+            board.copySnapshotsOfRow(row, rowSnapshots);
+            appendRow(row);
+            frame.append('\n');
+        }
+        frame.append('\n');
+    }
+
+    private void renderChangedRows(GameBoard board) {
+        int rowSize = board.getRowSize();
+        int colSize = board.getColSize();
+
+        if (previousSnapshots == null || previousSnapshots.length != rowSize * colSize) {
+            previousSnapshots = new CellSnapshot[rowSize * colSize];
+            frame.append(CLEAR_SCREEN);
+            appendCursorMove(HEADER_LINE_COUNT);
+            frame.append("    ").append(colAlphabets).append(CLEAR_LINE_TO_END);
+        }
+
+        for (int row = 0; row < rowSize; row++) {
+            board.copySnapshotsOfRow(row, rowSnapshots);
+            if (isSameAsPreviousRow(row, colSize)) {
+                continue;
+            }
+            System.arraycopy(rowSnapshots, 0, previousSnapshots, row * colSize, colSize);
+            appendCursorMove(HEADER_LINE_COUNT + row + 1);
+            appendRow(row);
+            frame.append(CLEAR_LINE_TO_END);
+        }
+
+        appendCursorMove(HEADER_LINE_COUNT + rowSize + 2);
+        frame.append(CLEAR_SCREEN_TO_END);
+    }
+
+    private boolean isSameAsPreviousRow(int row, int colSize) {
+        int fromIndex = row * colSize;
+        for (int col = 0; col < colSize; col++) {
+            if (previousSnapshots[fromIndex + col] != rowSnapshots[col]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendRow(int row) {
+        int rowNumber = row + 1;
+        if (rowNumber < 10) {
+            frame.append(' ');
+        }
+        frame.append(rowNumber).append("  ");
+        for (CellSnapshot snapshot : rowSnapshots) {
+            frame.append(CellSignProvider.findCellSignFrom(snapshot)).append(' ');
+        }
+    }
+
+    private void appendCursorMove(int line) {
+        frame.append(ESC).append(line).append(";1H");
+    }
+
+    private String generateColAlphabets(int colSize) {
+        StringBuilder alphabets = new StringBuilder();
+        for (int index = 0; index < colSize; index++) {
+            if (index > 0) {
+                alphabets.append(' ');
+            }
+            alphabets.append((char) ('a' + index));
+        }
+        return alphabets.toString();
+    }
+}
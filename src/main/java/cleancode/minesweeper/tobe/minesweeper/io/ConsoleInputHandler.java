@@ -3,18 +3,27 @@ package cleancode.minesweeper.tobe.minesweeper.io;
 import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
 import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
 
+import java.io.InputStream;
 import java.util.Scanner;
 
 public class ConsoleInputHandler implements InputHandler {
-    public static final Scanner SCANNER = new Scanner(System.in);
+    private final Scanner scanner;
 
     private final BoardIndexConverter boardIndexConverter = new BoardIndexConverter();
 
+    public ConsoleInputHandler() {
+        this(System.in);
+    }
+
+    public ConsoleInputHandler(InputStream inputStream) {
+        this.scanner = new Scanner(inputStream);
+    }
+
 
     @Override
     public UserAction getUserActionFromUser() {
 
-        String userInput = SCANNER.nextLine();
+        String userInput = scanner.nextLine();
 
         if ("1".equals(userInput)) {
             return UserAction.OPEN;
@@ -29,7 +38,7 @@ public class ConsoleInputHandler implements InputHandler {
 
     @Override
     public CellPosition getCellPositionFromUser() {
-        String userInput = SCANNER.nextLine();
+        String userInput = scanner.nextLine();
 
         int rowIndex = boardIndexConverter.getSelectedRowIndex(userInput);
         int colIndex = boardIndexConverter.getSelectedColIndex(userInput);
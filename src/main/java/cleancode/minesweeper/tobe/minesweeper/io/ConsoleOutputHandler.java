@@ -1,85 +1,114 @@
 package cleancode.minesweeper.tobe.minesweeper.io;
 
 import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
-import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
-import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
 import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
-import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignFinder;
-import cleancode.minesweeper.tobe.minesweeper.io.sign.CellSignProvider;
 
-import java.util.List;
-import java.util.stream.IntStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
 
 public class ConsoleOutputHandler implements OutputHandler {
-    CellSignFinder cellSignFinder = new CellSignFinder();
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
 
-    @Override
-    public void showGameStartComments() {
-        System.out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
-        System.out.println("지뢰찾기 게임 시작!");
-        System.out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
-    }
-
-    @Override
-    public void showBoard(GameBoard board) {
-
-        int rowSize = board.getRowSize();
-        int colSize = board.getColSize();
+    private final Writer writer;
+    private final BoardRenderer boardRenderer;
+    private char[] frameBuffer = new char[0];
 
-        String alphabets = generateColAlphabets(colSize);
-
-        System.out.println("    " + alphabets);
-        for (int row = 0; row < rowSize; row++) {
-            System.out.printf("%2d  ", row + 1);
-            for (int col = 0; col < colSize; col++) {
-                CellPosition cellPosition = CellPosition.of(row, col);
+    public ConsoleOutputHandler() {
+        this(BoardRenderMode.FULL);
+    }
 
-                CellSnapshot snapshot = board.getSnapshot(cellPosition);
-                String cellSign = CellSignProvider.findCellSignFrom(snapshot);
+    public ConsoleOutputHandler(BoardRenderMode boardRenderMode) {
+        this(System.out, boardRenderMode);
+    }
 
-                System.out.print(cellSign + " ");
-            }
-            System.out.println();
-        }
-        System.out.println();
+    public ConsoleOutputHandler(OutputStream outputStream, BoardRenderMode boardRenderMode) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, Charset.defaultCharset()), WRITE_BUFFER_SIZE);
+        this.boardRenderer = new BoardRenderer(boardRenderMode);
     }
 
-    private String generateColAlphabets(int colSize) {
-        List<String> alphabets = IntStream.range(0, colSize)
-                .mapToObj(index -> (char) ('a' + index))
-                .map(Object::toString)
-                .toList();
+    @Override
+    public void showGameStartComments() {
+        println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
+        println("지뢰찾기 게임 시작!");
+        println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
+        flush();
+    }
 
-        return String.join(" ", alphabets);
+    @Override
+    public void showBoard(GameBoard board) {
+        StringBuilder frame = boardRenderer.render(board);
+        write(frame);
+        flush();
     }
 
     @Override
     public void showGameWinningComment() {
-        System.out.println("지뢰를 모두 찾았습니다. GAME CLEAR!");
+        println("지뢰를 모두 찾았습니다. GAME CLEAR!");
+        flush();
     }
 
     @Override
     public void showGameLosingComment() {
-        System.out.println("지뢰를 밟았습니다. GAME OVER!");
+        println("지뢰를 밟았습니다. GAME OVER!");
+        flush();
     }
 
     @Override
     public void showCommentForSelectingCell() {
-        System.out.println("선택할 좌표를 입력하세요. (예: a1)");
+        println("선택할 좌표를 입력하세요. (예: a1)");
+        flush();
     }
 
     @Override
     public void showCommentForUserAction() {
-        System.out.println("선택한 셀에 대한 행위를 선택하세요. (1: 오픈, 2: 깃발 꽂기)");
+        println("선택한 셀에 대한 행위를 선택하세요. (1: 오픈, 2: 깃발 꽂기)");
+        flush();
     }
 
     @Override
     public void showExceptionMessage(GameException e) {
-        System.out.println(e.getMessage());
+        println(e.getMessage());
+        flush();
     }
 
     @Override
     public void showSimpleMessage(String message) {
-        System.out.println(message);
+        println(message);
+        flush();
+    }
+
+    private void write(StringBuilder frame) {
+        int length = frame.length();
+        if (frameBuffer.length < length) {
+            frameBuffer = new char[length];
+        }
+        frame.getChars(0, length, frameBuffer, 0);
+        try {
+            writer.write(frameBuffer, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void println(String message) {
+        try {
+            writer.write(message);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,57 @@
+package cleancode.minesweeper.tobe.minesweeper.io;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 콘솔 대신 밖에서 밀어 넣은 줄을 차례로 읽는 입력 핸들러. 네트워크 세션처럼 입력이 요청 단위로 들어올 때 쓴다.
+ */
+public class LineInputHandler implements InputHandler {
+
+    private final Deque<String> lines = new ArrayDeque<>();
+    private final BoardIndexConverter boardIndexConverter = new BoardIndexConverter();
+
+    public void offer(String line) {
+        lines.addLast(line.trim());
+    }
+
+    public void clear() {
+        lines.clear();
+    }
+
+    @Override
+    public UserAction getUserActionFromUser() {
+        String userInput = nextLine();
+
+        if ("1".equals(userInput) || "open".equalsIgnoreCase(userInput)) {
+            return UserAction.OPEN;
+        }
+
+        if ("2".equals(userInput) || "flag".equalsIgnoreCase(userInput)) {
+            return UserAction.FLAG;
+        }
+
+        return UserAction.UNKNOWN;
+    }
+
+    @Override
+    public CellPosition getCellPositionFromUser() {
+        String userInput = nextLine();
+
+        int rowIndex = boardIndexConverter.getSelectedRowIndex(userInput);
+        int colIndex = boardIndexConverter.getSelectedColIndex(userInput);
+        return CellPosition.of(rowIndex, colIndex);
+    }
+
+    private String nextLine() {
+        String line = lines.pollFirst();
+        if (line == null || line.isEmpty()) {
+            throw new GameException("입력이 없습니다.");
+        }
+        return line;
+    }
+}
@@ -2,6 +2,7 @@ package cleancode.minesweeper.tobe.minesweeper.io.sign;
 
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class CellSignFinder {
@@ -14,12 +15,19 @@ public class CellSignFinder {
             new UncheckedCellSignProvider()
     );
 
-    public String findCellSignFrom(CellSnapshot snapshot) {
+    private final CellSignTable cellSignTable;
+
+    public CellSignFinder() {
+        this(List.of());
+    }
 
-        return CELL_SIGN_PROVIDERS.stream()
-                .filter(provider -> provider.support(snapshot))
-                .findFirst()
-                .map(provider -> provider.provide(snapshot))
-                .orElseThrow(() -> new IllegalArgumentException("확인할 수 없는 셀입니다."));
+    public CellSignFinder(List<CellSignProvidable> customProviders) {
+        List<CellSignProvidable> providers = new ArrayList<>(customProviders);
+        providers.addAll(CELL_SIGN_PROVIDERS);
+        this.cellSignTable = CellSignTable.compile(providers);
+    }
+
+    public String findCellSignFrom(CellSnapshot snapshot) {
+        return cellSignTable.findCellSignFrom(snapshot);
     }
 }
@@ -3,7 +3,7 @@ package cleancode.minesweeper.tobe.minesweeper.io.sign;
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
 import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
 
-import java.util.Arrays;
+import java.util.List;
 
 public enum CellSignProvider implements CellSignProvidable {
     EMPTY("빈 셀", CellSnapshotStatus.EMPTY) {
@@ -41,6 +41,7 @@ public enum CellSignProvider implements CellSignProvidable {
     private static final String FLAG_SIGN = "⚑";
     private static final String UNCHECKED_SIGN = "□";
     private static final String LAND_MINE_SIGN = "☼";
+    private static final CellSignTable CELL_SIGN_TABLE = CellSignTable.compile(List.of(values()));
 
     private final String description;
     private final CellSnapshotStatus cellSnapshotStatus;
@@ -51,17 +52,7 @@ public enum CellSignProvider implements CellSignProvidable {
     }
 
     public static String findCellSignFrom(CellSnapshot snapshot) {
-
-        CellSignProvider cellSignProvider = findBy(snapshot);
-
-        return cellSignProvider.provide(snapshot);
-    }
-
-    private static CellSignProvider findBy(CellSnapshot snapshot) {
-        return Arrays.stream(values())
-                .filter(provider -> provider.support(snapshot))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("확인할 수 없는 셀입니다."));
+        return CELL_SIGN_TABLE.findCellSignFrom(snapshot);
     }
 
     @Override
@@ -0,0 +1,66 @@
+package cleancode.minesweeper.tobe.minesweeper.io.sign;
+
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshot;
+import cleancode.minesweeper.tobe.minesweeper.board.cell.CellSnapshotStatus;
+
+import java.util.List;
+
+/**
+ * 등록된 {@link CellSignProvidable} 을 (상태, 주변 지뢰 수) 조합마다 한 번씩 물어 미리 만들어 둔 기호표.
+ * 조회는 배열 인덱싱 한 번이며, 표 범위를 벗어난 스냅샷만 제공자 목록을 직접 훑는다.
+ */
+public class CellSignTable {
+
+    private static final int COUNT_RANGE = CellSnapshot.MAX_NEARBY_LAND_MINE_COUNT + 1;
+
+    private final List<CellSignProvidable> providers;
+    private final String[][] signs;
+
+    private CellSignTable(List<CellSignProvidable> providers, String[][] signs) {
+        this.providers = providers;
+        this.signs = signs;
+    }
+
+    public static CellSignTable compile(List<? extends CellSignProvidable> providers) {
+        List<CellSignProvidable> providerList = List.copyOf(providers);
+        CellSnapshotStatus[] statuses = CellSnapshotStatus.values();
+
+        String[][] signs = new String[statuses.length][COUNT_RANGE];
+        for (CellSnapshotStatus status : statuses) {
+            for (int count = 0; count < COUNT_RANGE; count++) {
+                signs[status.ordinal()][count] = findSignOrNull(providerList, CellSnapshot.of(status, count));
+            }
+        }
+        return new CellSignTable(providerList, signs);
+    }
+
+    public String findCellSignFrom(CellSnapshot snapshot) {
+        int count = snapshot.getNearByLandMineCount();
+        if (count < 0 || count >= COUNT_RANGE) {
+            return findSignByProviders(snapshot);
+        }
+
+        String sign = signs[snapshot.getStatus().ordinal()][count];
+        if (sign == null) {
+            throw new IllegalArgumentException("확인할 수 없는 셀입니다.");
+        }
+        return sign;
+    }
+
+    private String findSignByProviders(CellSnapshot snapshot) {
+        String sign = findSignOrNull(providers, snapshot);
+        if (sign == null) {
+            throw new IllegalArgumentException("확인할 수 없는 셀입니다.");
+        }
+        return sign;
+    }
+
+    private static String findSignOrNull(List<CellSignProvidable> providers, CellSnapshot snapshot) {
+        for (CellSignProvidable provider : providers) {
+            if (provider.support(snapshot)) {
+                return provider.provide(snapshot);
+            }
+        }
+        return null;
+    }
+}
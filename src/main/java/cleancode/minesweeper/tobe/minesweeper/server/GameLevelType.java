@@ -0,0 +1,42 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Advanced;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.VeryBeginner;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+public enum GameLevelType {
+
+    VERY_BEGINNER("아주 쉬움", VeryBeginner::new),
+    BEGINNER("쉬움", Beginner::new),
+    MIDDLE("보통", Middle::new),
+    ADVANCED("어려움", Advanced::new);
+
+    private final String description;
+    private final Supplier<GameLevel> gameLevelSupplier;
+
+    GameLevelType(String description, Supplier<GameLevel> gameLevelSupplier) {
+        this.description = description;
+        this.gameLevelSupplier = gameLevelSupplier;
+    }
+
+    public static GameLevelType findBy(String name) {
+        return Arrays.stream(values())
+                .filter(type -> type.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new GameException("지원하지 않는 난이도입니다."));
+    }
+
+    public GameLevel createGameLevel() {
+        return gameLevelSupplier.get();
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,66 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.Minesweeper;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.config.GameConfig;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.io.LineInputHandler;
+
+/**
+ * 세션 하나가 게임 하나와 전용 입출력 핸들러 한 쌍을 가진다.
+ * 같은 세션에 동시에 들어온 요청은 세션 단위로 직렬화되고, 다른 세션끼리는 서로 막지 않는다.
+ */
+public class GameSession {
+
+    private final String id;
+    private final Minesweeper minesweeper;
+    private final LineInputHandler inputHandler = new LineInputHandler();
+    private final SessionOutputHandler outputHandler = new SessionOutputHandler();
+    private volatile long lastAccessNanos;
+
+    public GameSession(String id, GameLevel gameLevel, GameBoard gameBoard) {
+        this.id = id;
+        this.minesweeper = new Minesweeper(new GameConfig(gameLevel, inputHandler, outputHandler), gameBoard);
+        touch();
+    }
+
+    public synchronized String show() {
+        touch();
+        if (minesweeper.isInProgress()) {
+            minesweeper.showBoard();
+        } else {
+            minesweeper.showGameResult();
+        }
+        return outputHandler.drain();
+    }
+
+    public synchronized String play(String cellInput, String userActionInput) {
+        touch();
+        if (!minesweeper.isInProgress()) {
+            minesweeper.showGameResult();
+            return outputHandler.drain();
+        }
+
+        inputHandler.clear();
+        inputHandler.offer(cellInput);
+        inputHandler.offer(userActionInput);
+        minesweeper.playTurn();
+
+        if (!minesweeper.isInProgress()) {
+            minesweeper.showGameResult();
+        }
+        return outputHandler.drain();
+    }
+
+    public boolean isIdleSince(long thresholdNanos) {
+        return lastAccessNanos - thresholdNanos < 0;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    private void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+}
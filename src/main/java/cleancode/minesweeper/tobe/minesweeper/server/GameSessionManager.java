@@ -0,0 +1,93 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.layout.BoardLayout;
+import cleancode.minesweeper.tobe.minesweeper.board.layout.BoardLayoutCache;
+import cleancode.minesweeper.tobe.minesweeper.board.layout.BoardLayoutPool;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 id 로 게임 세션을 보관하고, 일정 시간 요청이 없던 세션은 백그라운드에서 정리한다.
+ * 새 세션의 보드는 시드가 없으면 레벨별 풀에서 미리 만든 배치를, 시드가 있으면 캐시된 배치를 복사해서 만든다.
+ */
+public class GameSessionManager implements AutoCloseable {
+
+    private static final int LAYOUT_POOL_CAPACITY = 64;
+    private static final long LAYOUT_CACHE_WEIGHT_IN_BYTES = 64L * 1024 * 1024;
+
+    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final Map<GameLevelType, BoardLayoutPool> layoutPools = new ConcurrentHashMap<>();
+    private final BoardLayoutCache layoutCache = new BoardLayoutCache(LAYOUT_CACHE_WEIGHT_IN_BYTES);
+    private final ScheduledExecutorService evictionScheduler;
+    private final long idleTimeoutNanos;
+
+    public GameSessionManager(Duration idleTimeout) {
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.evictionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-session-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long periodMillis = Math.max(1, idleTimeout.toMillis() / 2);
+        evictionScheduler.scheduleAtFixedRate(this::evictIdleSessions, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public GameSession create(GameLevelType gameLevelType) {
+        BoardLayout boardLayout = layoutPools.computeIfAbsent(gameLevelType, this::startLayoutPool).take();
+        return register(gameLevelType.createGameLevel(), boardLayout);
+    }
+
+    public GameSession create(GameLevelType gameLevelType, long seed) {
+        GameLevel gameLevel = gameLevelType.createGameLevel();
+        return register(gameLevel, layoutCache.getOrGenerate(gameLevel, seed));
+    }
+
+    public Optional<GameSession> find(String sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    public boolean remove(String sessionId) {
+        return sessions.remove(sessionId) != null;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int evictIdleSessions() {
+        long thresholdNanos = System.nanoTime() - idleTimeoutNanos;
+        int before = sessions.size();
+        sessions.values().removeIf(gameSession -> gameSession.isIdleSince(thresholdNanos));
+        return before - sessions.size();
+    }
+
+    private GameSession register(GameLevel gameLevel, BoardLayout boardLayout) {
+        String sessionId = UUID.randomUUID().toString();
+        GameSession gameSession = new GameSession(sessionId, gameLevel, GameBoard.from(gameLevel, boardLayout));
+        sessions.put(sessionId, gameSession);
+        return gameSession;
+    }
+
+    private BoardLayoutPool startLayoutPool(GameLevelType gameLevelType) {
+        BoardLayoutPool layoutPool = new BoardLayoutPool(gameLevelType.createGameLevel(), LAYOUT_POOL_CAPACITY);
+        layoutPool.start();
+        return layoutPool;
+    }
+
+    @Override
+    public void close() {
+        evictionScheduler.shutdownNow();
+        layoutPools.values().forEach(BoardLayoutPool::close);
+        sessions.clear();
+    }
+}
@@ -0,0 +1,154 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시에 여러 세션을 열어 무작위로 수를 두며 서버의 처리량과 응답 시간을 잰다.
+ * 실패한 요청(끝난 게임에 둔 수 포함)은 따로 세고 응답 시간 분위수에는 넣지 않는다.
+ * 사용법: LoadTestClient [baseUri] [동시 게임 수] [게임당 요청 수] [난이도]
+ */
+public class LoadTestClient {
+
+    private static final char BASE_CHAR_FOR_COL = 'a';
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static void main(String[] args) throws InterruptedException {
+        String baseUri = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrentGames = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        int movesPerGame = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        GameLevelType gameLevelType = GameLevelType.findBy(args.length > 3 ? args[3] : GameLevelType.BEGINNER.name());
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(concurrentGames, 512));
+        SplittableRandom seedRandom = new SplittableRandom(20240101L);
+        LongAdder failureCount = new LongAdder();
+
+        long startNanos = System.nanoTime();
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrentGames; i++) {
+            SplittableRandom random = seedRandom.split();
+            futures.add(executorService.submit(() -> playGame(httpClient, baseUri, gameLevelType, movesPerGame, random, failureCount)));
+        }
+
+        long[] latencies = collectLatencies(futures);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executorService.shutdown();
+
+        Arrays.sort(latencies);
+        long requestCount = latencies.length + failureCount.sum();
+        System.out.printf(
+                "동시 게임 %d개, 요청 %d건(실패 %d건), 초당 %.1f건, 성공한 요청의 p50 %.2fms, p99 %.2fms%n",
+                concurrentGames, requestCount, failureCount.sum(),
+                requestCount * NANOS_PER_SECOND / elapsedNanos,
+                percentile(latencies, 0.50) / NANOS_PER_MILLI,
+                percentile(latencies, 0.99) / NANOS_PER_MILLI
+        );
+    }
+
+    /**
+     * @return 성공한 요청들의 응답 시간
+     */
+    private static long[] playGame(
+            HttpClient httpClient,
+            String baseUri,
+            GameLevelType gameLevelType,
+            int movesPerGame,
+            SplittableRandom random,
+            LongAdder failureCount
+    ) throws IOException, InterruptedException {
+        long[] latencies = new long[movesPerGame + 1];
+        int count = 0;
+
+        long startNanos = System.nanoTime();
+        HttpResponse<String> created = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUri + "/games?level=" + gameLevelType.name()))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        long createdNanos = System.nanoTime() - startNanos;
+        if (created.statusCode() != 201) {
+            failureCount.increment();
+            return new long[0];
+        }
+        latencies[count++] = createdNanos;
+        String sessionId = created.headers().firstValue("X-Session-Id")
+                .orElseThrow(() -> new IllegalStateException("세션 id 를 받지 못했습니다."));
+
+        int rowSize = gameLevelType.createGameLevel().getRowSize();
+        int colSize = gameLevelType.createGameLevel().getColSize();
+        for (int move = 0; move < movesPerGame; move++) {
+            String cell = toCellInput(random.nextInt(rowSize), random.nextInt(colSize));
+            String action = random.nextInt(5) == 0 ? "flag" : "open";
+
+            startNanos = System.nanoTime();
+            HttpResponse<Void> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(baseUri + "/games/" + sessionId + "/moves?cell=" + cell + "&action=" + action))
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding()
+            );
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (response.statusCode() != 200) {
+                failureCount.increment();
+                continue;
+            }
+            latencies[count++] = elapsedNanos;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    /**
+     * BoardIndexConverter 와 같은 방식으로 열을 'a' 부터 한 글자로 적는다. 26열을 넘으면 'z' 다음 문자가 되므로 URL 인코딩한다.
+     */
+    private static String toCellInput(int rowIndex, int colIndex) {
+        String cellInput = (char) (BASE_CHAR_FOR_COL + colIndex) + String.valueOf(rowIndex + 1);
+        return URLEncoder.encode(cellInput, StandardCharsets.UTF_8);
+    }
+
+    private static long[] collectLatencies(List<Future<long[]>> futures) throws InterruptedException {
+        List<long[]> results = new ArrayList<>();
+        int totalCount = 0;
+        for (Future<long[]> future : futures) {
+            try {
+                long[] latencies = future.get();
+                results.add(latencies);
+                totalCount += latencies.length;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("부하 테스트 중 오류가 발생했습니다.", e.getCause());
+            }
+        }
+
+        long[] merged = new long[totalCount];
+        int offset = 0;
+        for (long[] latencies : results) {
+            System.arraycopy(latencies, 0, merged, offset, latencies.length);
+            offset += latencies.length;
+        }
+        return merged;
+    }
+
+    private static long percentile(long[] sortedLatencies, double ratio) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(ratio * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,165 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 여러 게임 세션을 HTTP 로 제공한다.
+ * <pre>
+ * POST   /games?level=BEGINNER[&seed=42]    새 게임 (응답 헤더 X-Session-Id, 시드를 주면 같은 배치)
+ * GET    /games/{id}                        현재 보드
+ * POST   /games/{id}/moves?cell=a1&action=open   한 턴 진행 (action: open | flag)
+ * DELETE /games/{id}                        세션 종료
+ * </pre>
+ */
+public class MinesweeperHttpServer implements AutoCloseable {
+
+    private static final String GAMES_PATH = "/games";
+    private static final String MOVES_PATH = "moves";
+    private static final String SESSION_ID_HEADER = "X-Session-Id";
+
+    private final HttpServer httpServer;
+    private final GameSessionManager gameSessionManager;
+
+    public MinesweeperHttpServer(InetSocketAddress address, ExecutorService executorService, GameSessionManager gameSessionManager) {
+        try {
+            this.httpServer = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버를 열 수 없습니다.", e);
+        }
+        this.gameSessionManager = gameSessionManager;
+        httpServer.setExecutor(executorService);
+        httpServer.createContext(GAMES_PATH, this::handle);
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            route(exchange);
+        }
+    }
+
+    /**
+     * 컨텍스트는 경로 앞부분만 맞으면 요청을 넘겨주므로(/gamesX) /games 이거나 /games/ 로 시작하는지 먼저 확인한다.
+     */
+    private void route(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (!GAMES_PATH.equals(path) && !path.startsWith(GAMES_PATH + "/")) {
+                respond(exchange, 404, "존재하지 않는 경로입니다.\n");
+                return;
+            }
+            String[] pathSegments = path.substring(GAMES_PATH.length()).split("/");
+            Map<String, String> queries = parseQueries(exchange.getRequestURI().getRawQuery());
+            String method = exchange.getRequestMethod();
+
+            if (pathSegments.length <= 1 && "POST".equals(method)) {
+                createGame(exchange, queries);
+                return;
+            }
+            if (pathSegments.length == 2 && "GET".equals(method)) {
+                withSession(exchange, pathSegments[1], gameSession -> respond(exchange, 200, gameSession.show()));
+                return;
+            }
+            if (pathSegments.length == 2 && "DELETE".equals(method)) {
+                int status = gameSessionManager.remove(pathSegments[1]) ? 204 : 404;
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            if (pathSegments.length == 3 && MOVES_PATH.equals(pathSegments[2]) && "POST".equals(method)) {
+                withSession(exchange, pathSegments[1], gameSession ->
+                        respond(exchange, 200, gameSession.play(queries.getOrDefault("cell", ""), queries.getOrDefault("action", "")))
+                );
+                return;
+            }
+            respond(exchange, 404, "지원하지 않는 요청입니다.\n");
+        } catch (GameException e) {
+            respond(exchange, 400, e.getMessage() + "\n");
+        } catch (RuntimeException e) {
+            respond(exchange, 500, "서버에서 요청을 처리하지 못했습니다.\n");
+        }
+    }
+
+    private void createGame(HttpExchange exchange, Map<String, String> queries) throws IOException {
+        GameLevelType gameLevelType = GameLevelType.findBy(queries.getOrDefault("level", GameLevelType.BEGINNER.name()));
+        GameSession gameSession = createSession(gameLevelType, queries.get("seed"));
+
+        exchange.getResponseHeaders().set(SESSION_ID_HEADER, gameSession.getId());
+        respond(exchange, 201, gameSession.show());
+    }
+
+    private GameSession createSession(GameLevelType gameLevelType, String seed) {
+        if (seed == null) {
+            return gameSessionManager.create(gameLevelType);
+        }
+        try {
+            return gameSessionManager.create(gameLevelType, Long.parseLong(seed));
+        } catch (NumberFormatException e) {
+            throw new GameException("시드는 숫자여야 합니다.");
+        }
+    }
+
+    private void withSession(HttpExchange exchange, String sessionId, SessionHandler sessionHandler) throws IOException {
+        Optional<GameSession> gameSession = gameSessionManager.find(sessionId);
+        if (gameSession.isEmpty()) {
+            respond(exchange, 404, "존재하지 않는 세션입니다.\n");
+            return;
+        }
+        sessionHandler.handle(gameSession.get());
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    private Map<String, String> parseQueries(String rawQuery) {
+        Map<String, String> queries = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return queries;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separatorIndex = pair.indexOf('=');
+            if (separatorIndex < 0) {
+                continue;
+            }
+            String key = URLDecoder.decode(pair.substring(0, separatorIndex), StandardCharsets.UTF_8);
+            String value = URLDecoder.decode(pair.substring(separatorIndex + 1), StandardCharsets.UTF_8);
+            queries.put(key, value);
+        }
+        return queries;
+    }
+
+    @FunctionalInterface
+    private interface SessionHandler {
+        void handle(GameSession gameSession) throws IOException;
+    }
+}
@@ -0,0 +1,29 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class MinesweeperServerApplication {
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        GameSessionManager gameSessionManager = new GameSessionManager(IDLE_TIMEOUT);
+        MinesweeperHttpServer server = new MinesweeperHttpServer(new InetSocketAddress(port), executorService, gameSessionManager);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            gameSessionManager.close();
+            executorService.shutdown();
+        }));
+
+        server.start();
+        System.out.println("지뢰찾기 서버가 " + server.getPort() + " 포트에서 시작되었습니다.");
+    }
+}
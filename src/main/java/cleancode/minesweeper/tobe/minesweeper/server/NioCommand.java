@@ -0,0 +1,30 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import java.util.Arrays;
+
+enum NioCommand {
+
+    SHOW("show", "현재 보드 보기"),
+    NEW("new", "새 게임"),
+    QUIT("quit", "연결 종료"),
+    MOVE("", "좌표와 행동 (예: a1 open, b3 flag)");
+
+    private final String keyword;
+    private final String description;
+
+    NioCommand(String keyword, String description) {
+        this.keyword = keyword;
+        this.description = description;
+    }
+
+    static NioCommand findBy(String line) {
+        return Arrays.stream(values())
+                .filter(command -> !command.keyword.isEmpty() && command.keyword.equalsIgnoreCase(line))
+                .findFirst()
+                .orElse(MOVE);
+    }
+
+    String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,181 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+/**
+ * {@link Selector} 하나와 이벤트 루프 스레드 하나로 모든 플레이어 연결을 처리하는 줄 단위 텍스트 서버.
+ * 플레이어마다 스레드를 두지 않고, 명령이 도착한 연결만 깨워 한 턴을 진행한다.
+ */
+public class NioGameServer implements AutoCloseable {
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final GameLevel gameLevel;
+    private final Thread eventLoopThread;
+    private volatile boolean running;
+
+    public NioGameServer(InetSocketAddress address, GameLevel gameLevel) {
+        try {
+            this.selector = Selector.open();
+            this.serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버를 열 수 없습니다.", e);
+        }
+        this.gameLevel = gameLevel;
+        this.eventLoopThread = new Thread(this::runEventLoop, "minesweeper-nio-event-loop");
+    }
+
+    public void start() {
+        running = true;
+        eventLoopThread.start();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            eventLoopThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runEventLoop() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    handleKey(key);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 루프가 중단되었습니다.", e);
+        } finally {
+            closeAll();
+        }
+    }
+
+    private void handleKey(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+
+        try {
+            handleConnection(key, (NioPlayerConnection) key.attachment());
+        } catch (IOException | RuntimeException e) {
+            closeConnection(key);
+        }
+    }
+
+    private void handleConnection(SelectionKey key, NioPlayerConnection connection) throws IOException {
+        if (key.isReadable() && !connection.read()) {
+            closeConnection(key);
+            return;
+        }
+        if (connection.hasPendingOutput()) {
+            connection.write();
+        }
+        if (!connection.isOutputBackedUp()) {
+            connection.handleBufferedLines();
+            if (connection.hasPendingOutput()) {
+                connection.write();
+            }
+        }
+        if (connection.isCloseRequested()) {
+            closeConnection(key);
+            return;
+        }
+        updateInterest(key, connection);
+    }
+
+    /**
+     * 연결 하나를 받지 못해도 서버 소켓은 닫지 않는다.
+     */
+    private void accept() {
+        SocketChannel channel = null;
+        try {
+            channel = serverChannel.accept();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+
+            NioPlayerConnection connection = new NioPlayerConnection(channel, gameLevel);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connection.write();
+            updateInterest(key, connection);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("연결을 받지 못했습니다: " + e.getMessage());
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * 보낼 출력이 쌓인 연결은 다 보낼 때까지 읽지 않는다.
+     */
+    private void updateInterest(SelectionKey key, NioPlayerConnection connection) {
+        int interestOps = 0;
+        if (!connection.isOutputBackedUp()) {
+            interestOps |= SelectionKey.OP_READ;
+        }
+        if (connection.hasPendingOutput()) {
+            interestOps |= SelectionKey.OP_WRITE;
+        }
+        key.interestOps(interestOps);
+    }
+
+    private void closeConnection(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException ignored) {
+            // 이미 끊긴 연결이다.
+        }
+    }
+
+    private void closeQuietly(SocketChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 이미 끊긴 연결이다.
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            closeConnection(key);
+        }
+        try {
+            selector.close();
+        } catch (IOException ignored) {
+            // 종료 중이므로 무시한다.
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import cleancode.minesweeper.tobe.minesweeper.io.BoardRenderMode;
+import cleancode.minesweeper.tobe.minesweeper.io.BoardRenderer;
+import cleancode.minesweeper.tobe.minesweeper.io.OutputHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 명령 하나를 처리하는 동안 나온 출력을 모아 두었다가 {@link #encodePendingFrame()} 에서
+ * 연결별 direct ByteBuffer 에 UTF-8 로 바로 인코딩한다. 보드는 명령을 처리한 뒤의 상태로 한 번만 그린다.
+ * 버퍼는 {@link #MAX_BUFFER_CAPACITY} 까지만 늘어난다. 보낼 데이터가 {@link #HIGH_WATER_MARK} 를 넘으면
+ * 연결은 다 보낼 때까지 새 명령을 처리하지 않으므로, 읽지 않는 상대 때문에 버퍼가 끝없이 커지지 않는다.
+ * 이벤트 루프 스레드 하나에서만 사용한다.
+ */
+public class NioOutputHandler implements OutputHandler {
+
+    private static final int INITIAL_BUFFER_CAPACITY = 4 * 1024;
+    private static final int HIGH_WATER_MARK = 64 * 1024;
+    private static final int MAX_BUFFER_CAPACITY = 4 * 1024 * 1024;
+
+    private final BoardRenderer boardRenderer = new BoardRenderer(BoardRenderMode.FULL);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final StringBuilder messages = new StringBuilder();
+    private ByteBuffer outbound = ByteBuffer.allocateDirect(INITIAL_BUFFER_CAPACITY);
+    private GameBoard shownBoard;
+
+    public void encodePendingFrame() {
+        if (shownBoard != null) {
+            encode(boardRenderer.render(shownBoard));
+            shownBoard = null;
+        }
+        encode(messages);
+        messages.setLength(0);
+    }
+
+    public boolean hasPendingOutput() {
+        return outbound.position() > 0;
+    }
+
+    public boolean isAboveHighWaterMark() {
+        return outbound.position() > HIGH_WATER_MARK;
+    }
+
+    /**
+     * @return 보낼 데이터가 모두 나갔으면 true
+     */
+    public boolean writeTo(SocketChannel channel) throws IOException {
+        outbound.flip();
+        try {
+            channel.write(outbound);
+        } finally {
+            outbound.compact();
+        }
+        return !hasPendingOutput();
+    }
+
+    @Override
+    public void showGameStartComments() {
+        appendLine("지뢰찾기 게임 시작!");
+        appendLine("명령: <좌표> open | <좌표> flag | show | new | quit (예: a1 open)");
+    }
+
+    @Override
+    public void showBoard(GameBoard board) {
+        shownBoard = board;
+    }
+
+    @Override
+    public void showGameWinningComment() {
+        appendLine("지뢰를 모두 찾았습니다. GAME CLEAR!");
+    }
+
+    @Override
+    public void showGameLosingComment() {
+        appendLine("지뢰를 밟았습니다. GAME OVER!");
+    }
+
+    @Override
+    public void showCommentForSelectingCell() {
+    }
+
+    @Override
+    public void showCommentForUserAction() {
+    }
+
+    @Override
+    public void showExceptionMessage(GameException e) {
+        appendLine(e.getMessage());
+    }
+
+    @Override
+    public void showSimpleMessage(String message) {
+        appendLine(message);
+    }
+
+    private void appendLine(String message) {
+        messages.append(message).append('\n');
+    }
+
+    private void encode(CharSequence text) {
+        CharBuffer source = CharBuffer.wrap(text);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(source, outbound, true);
+            if (result.isUnderflow()) {
+                result = encoder.flush(outbound);
+            }
+            if (result.isUnderflow()) {
+                return;
+            }
+            if (result.isOverflow()) {
+                growOutbound();
+                continue;
+            }
+            throwCodingException(result);
+        }
+    }
+
+    private void growOutbound() {
+        if (outbound.capacity() >= MAX_BUFFER_CAPACITY) {
+            throw new IllegalStateException("보낼 출력이 버퍼 한도를 넘었습니다.");
+        }
+        ByteBuffer grown = ByteBuffer.allocateDirect(Math.min(outbound.capacity() * 2, MAX_BUFFER_CAPACITY));
+        outbound.flip();
+        grown.put(outbound);
+        outbound = grown;
+    }
+
+    private void throwCodingException(CoderResult result) {
+        try {
+            result.throwException();
+        } catch (CharacterCodingException e) {
+            throw new IllegalStateException("출력을 인코딩할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.Minesweeper;
+import cleancode.minesweeper.tobe.minesweeper.config.GameConfig;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.io.LineInputHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * 소켓 연결 하나와 그 연결의 게임. 받은 바이트를 줄 단위로 잘라 명령으로 처리한다.
+ * 모든 메서드는 이벤트 루프 스레드에서만 호출되므로 따로 잠그지 않는다.
+ */
+class NioPlayerConnection {
+
+    private static final int MAX_LINE_LENGTH = 256;
+
+    private final SocketChannel channel;
+    private final GameLevel gameLevel;
+    private final LineInputHandler inputHandler = new LineInputHandler();
+    private final NioOutputHandler outputHandler = new NioOutputHandler();
+    private final ByteBuffer inbound = ByteBuffer.allocate(MAX_LINE_LENGTH);
+    private Minesweeper minesweeper;
+    private boolean closeRequested;
+
+    NioPlayerConnection(SocketChannel channel, GameLevel gameLevel) {
+        this.channel = channel;
+        this.gameLevel = gameLevel;
+        startNewGame();
+
+        outputHandler.showGameStartComments();
+        outputHandler.encodePendingFrame();
+        minesweeper.showBoard();
+        outputHandler.encodePendingFrame();
+    }
+
+    /**
+     * @return 상대가 연결을 닫았으면 false
+     */
+    boolean read() throws IOException {
+        int readCount = channel.read(inbound);
+        if (readCount < 0) {
+            return false;
+        }
+        handleBufferedLines();
+        return true;
+    }
+
+    /**
+     * 받아 둔 줄을 차례로 처리한다. 보낼 출력이 쌓이면 남은 줄은 버퍼에 두고 멈췄다가, 출력이 빠진 뒤 다시 부를 때 이어서 처리한다.
+     * 종료 명령을 받은 뒤에 온 줄은 처리하지 않고 버린다.
+     */
+    void handleBufferedLines() {
+        inbound.flip();
+        int lineStart = inbound.position();
+        for (int i = lineStart; i < inbound.limit() && !closeRequested && !isOutputBackedUp(); i++) {
+            if (inbound.get(i) == '\n') {
+                handleLine(decodeLine(lineStart, i));
+                lineStart = i + 1;
+            }
+        }
+        if (closeRequested) {
+            inbound.clear();
+            return;
+        }
+        inbound.position(lineStart);
+        inbound.compact();
+
+        if (!inbound.hasRemaining() && !isOutputBackedUp()) {
+            inbound.clear();
+            outputHandler.showSimpleMessage("명령이 너무 깁니다.");
+            outputHandler.encodePendingFrame();
+        }
+    }
+
+    boolean isOutputBackedUp() {
+        return outputHandler.isAboveHighWaterMark();
+    }
+
+    boolean write() throws IOException {
+        return outputHandler.writeTo(channel);
+    }
+
+    boolean hasPendingOutput() {
+        return outputHandler.hasPendingOutput();
+    }
+
+    boolean isCloseRequested() {
+        return closeRequested && !hasPendingOutput();
+    }
+
+    private String decodeLine(int from, int to) {
+        int end = to;
+        if (end > from && inbound.get(end - 1) == '\r') {
+            end--;
+        }
+        char[] chars = new char[end - from];
+        for (int i = from; i < end; i++) {
+            chars[i - from] = (char) (inbound.get(i) & 0xFF);
+        }
+        return new String(chars).trim();
+    }
+
+    private void handleLine(String line) {
+        if (line.isEmpty()) {
+            return;
+        }
+
+        NioCommand command = NioCommand.findBy(line);
+        if (command == NioCommand.QUIT) {
+            closeRequested = true;
+            return;
+        }
+        if (command == NioCommand.NEW) {
+            startNewGame();
+            minesweeper.showBoard();
+        }
+        if (command == NioCommand.SHOW) {
+            showCurrentState();
+        }
+        if (command == NioCommand.MOVE) {
+            playMove(line);
+        }
+        outputHandler.encodePendingFrame();
+    }
+
+    /**
+     * 보드는 만들 때 정한 시드로만 다시 초기화되므로, 새 게임은 새 시드를 받도록 보드부터 새로 만든다.
+     */
+    private void startNewGame() {
+        minesweeper = new Minesweeper(new GameConfig(gameLevel, inputHandler, outputHandler));
+        minesweeper.initialize();
+    }
+
+    private void playMove(String line) {
+        if (!minesweeper.isInProgress()) {
+            minesweeper.showGameResult();
+            return;
+        }
+
+        int separatorIndex = line.indexOf(' ');
+        inputHandler.clear();
+        inputHandler.offer(separatorIndex < 0 ? line : line.substring(0, separatorIndex));
+        inputHandler.offer(separatorIndex < 0 ? "" : line.substring(separatorIndex + 1));
+        minesweeper.playTurn();
+        showCurrentState();
+    }
+
+    private void showCurrentState() {
+        if (minesweeper.isInProgress()) {
+            minesweeper.showBoard();
+            return;
+        }
+        minesweeper.showGameResult();
+    }
+}
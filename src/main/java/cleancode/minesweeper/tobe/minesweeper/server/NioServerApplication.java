@@ -0,0 +1,19 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import java.net.InetSocketAddress;
+
+public class NioServerApplication {
+
+    private static final int DEFAULT_PORT = 9090;
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameLevelType gameLevelType = GameLevelType.findBy(args.length > 1 ? args[1] : GameLevelType.BEGINNER.name());
+
+        NioGameServer server = new NioGameServer(new InetSocketAddress(port), gameLevelType.createGameLevel());
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+
+        server.start();
+        System.out.println("지뢰찾기 NIO 서버가 " + server.getPort() + " 포트에서 시작되었습니다.");
+    }
+}
@@ -0,0 +1,69 @@
+package cleancode.minesweeper.tobe.minesweeper.server;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import cleancode.minesweeper.tobe.minesweeper.io.BoardRenderMode;
+import cleancode.minesweeper.tobe.minesweeper.io.BoardRenderer;
+import cleancode.minesweeper.tobe.minesweeper.io.OutputHandler;
+
+/**
+ * 한 번의 요청 동안 나온 메시지를 모아 두고, 보드는 응답을 만들 때 최신 상태로 한 번만 그린다.
+ * 콘솔용 입력 안내 문구는 요청/응답 방식에서 의미가 없어 남기지 않는다.
+ */
+public class SessionOutputHandler implements OutputHandler {
+
+    private final StringBuilder messages = new StringBuilder();
+    private final BoardRenderer boardRenderer = new BoardRenderer(BoardRenderMode.FULL);
+    private GameBoard shownBoard;
+
+    public String drain() {
+        StringBuilder response = new StringBuilder();
+        if (shownBoard != null) {
+            response.append(boardRenderer.render(shownBoard));
+        }
+        response.append(messages);
+        messages.setLength(0);
+        return response.toString();
+    }
+
+    @Override
+    public void showGameStartComments() {
+    }
+
+    @Override
+    public void showBoard(GameBoard board) {
+        shownBoard = board;
+    }
+
+    @Override
+    public void showGameWinningComment() {
+        appendLine("지뢰를 모두 찾았습니다. GAME CLEAR!");
+    }
+
+    @Override
+    public void showGameLosingComment() {
+        appendLine("지뢰를 밟았습니다. GAME OVER!");
+    }
+
+    @Override
+    public void showCommentForSelectingCell() {
+    }
+
+    @Override
+    public void showCommentForUserAction() {
+    }
+
+    @Override
+    public void showExceptionMessage(GameException e) {
+        appendLine(e.getMessage());
+    }
+
+    @Override
+    public void showSimpleMessage(String message) {
+        appendLine(message);
+    }
+
+    private void appendLine(String message) {
+        messages.append(message).append('\n');
+    }
+}
@@ -0,0 +1,37 @@
+package cleancode.minesweeper.tobe.minesweeper.simulation;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Advanced;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Beginner;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.Middle;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.VeryBeginner;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class GameSimulationApplication {
+
+    private static final long DEFAULT_GAME_COUNT = 1_000_000L;
+    private static final int MAX_TURNS_PER_GAME = 100_000;
+    private static final double FLAG_RATIO = 0.2;
+    private static final long SEED = 20240101L;
+
+    public static void main(String[] args) {
+        long gameCount = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_GAME_COUNT;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+
+        List<GameLevel> gameLevels = List.of(new VeryBeginner(), new Beginner(), new Middle(), new Advanced());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            GameSimulator gameSimulator = new GameSimulator(executorService, threadCount, MAX_TURNS_PER_GAME, FLAG_RATIO);
+            for (GameLevel gameLevel : gameLevels) {
+                SimulationResult result = gameSimulator.simulate(gameLevel, gameCount, SEED);
+                System.out.println(result.display());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
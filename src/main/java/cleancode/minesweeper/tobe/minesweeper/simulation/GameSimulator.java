@@ -0,0 +1,121 @@
+package cleancode.minesweeper.tobe.minesweeper.simulation;
+
+import cleancode.minesweeper.tobe.minesweeper.Minesweeper;
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.config.GameConfig;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.io.InputHandler;
+import cleancode.minesweeper.tobe.minesweeper.io.OutputHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 콘솔 없이 {@link Minesweeper} 를 여러 스레드에서 반복 실행하고 레벨별 승패와 처리량을 모은다.
+ * 게임마다 보드와 입출력 핸들러를 새로 만들기 때문에 게임끼리 공유하는 상태는 없다.
+ * 보드 시드와 입력은 모두 청크의 난수에서 뽑으므로, 같은 시드와 스레드 수면 같은 게임들을 둔다.
+ */
+public class GameSimulator {
+
+    private static final int CHUNK_COUNT_PER_THREAD = 4;
+    private static final OutputHandler NO_OP_OUTPUT_HANDLER = new NoOpOutputHandler();
+
+    private final ExecutorService executorService;
+    private final int threadCount;
+    private final int maxTurnsPerGame;
+    private final double flagRatio;
+
+    public GameSimulator(ExecutorService executorService, int threadCount, int maxTurnsPerGame, double flagRatio) {
+        this.executorService = executorService;
+        this.threadCount = threadCount;
+        this.maxTurnsPerGame = maxTurnsPerGame;
+        this.flagRatio = flagRatio;
+    }
+
+    public SimulationResult simulate(GameLevel gameLevel, long gameCount, long seed) {
+        LongAdder winCount = new LongAdder();
+        LongAdder loseCount = new LongAdder();
+        LongAdder unfinishedCount = new LongAdder();
+
+        long startNanos = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        SplittableRandom seedRandom = new SplittableRandom(seed);
+        for (GameChunk chunk : GameChunk.split(gameCount, threadCount * CHUNK_COUNT_PER_THREAD)) {
+            SplittableRandom chunkRandom = seedRandom.split();
+            futures.add(executorService.submit(() -> {
+                for (long i = 0; i < chunk.gameCount; i++) {
+                    Minesweeper minesweeper = playOneGame(gameLevel, chunkRandom);
+                    countResult(minesweeper, winCount, loseCount, unfinishedCount);
+                }
+            }));
+        }
+        awaitAll(futures);
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        return new SimulationResult(gameLevel, winCount.sum(), loseCount.sum(), unfinishedCount.sum(), elapsedNanos);
+    }
+
+    private Minesweeper playOneGame(GameLevel gameLevel, SplittableRandom random) {
+        GameBoard gameBoard = new GameBoard(gameLevel, random.nextLong());
+        InputHandler inputHandler = new RandomInputHandler(random, gameLevel, flagRatio);
+        Minesweeper minesweeper = new Minesweeper(new GameConfig(gameLevel, inputHandler, NO_OP_OUTPUT_HANDLER), gameBoard);
+        minesweeper.initialize();
+
+        for (int turn = 0; turn < maxTurnsPerGame && minesweeper.isInProgress(); turn++) {
+            minesweeper.playTurn();
+        }
+        return minesweeper;
+    }
+
+    private void countResult(Minesweeper minesweeper, LongAdder winCount, LongAdder loseCount, LongAdder unfinishedCount) {
+        if (minesweeper.isWinStatus()) {
+            winCount.increment();
+            return;
+        }
+        if (minesweeper.isLoseStatus()) {
+            loseCount.increment();
+            return;
+        }
+        unfinishedCount.increment();
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("시뮬레이션이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("시뮬레이션 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private static class GameChunk {
+
+        private final long gameCount;
+
+        private GameChunk(long gameCount) {
+            this.gameCount = gameCount;
+        }
+
+        private static List<GameChunk> split(long totalGameCount, int chunkCount) {
+            List<GameChunk> chunks = new ArrayList<>();
+            long baseCount = totalGameCount / chunkCount;
+            long remainder = totalGameCount % chunkCount;
+            for (int i = 0; i < chunkCount; i++) {
+                long gameCount = baseCount + (i < remainder ? 1 : 0);
+                if (gameCount > 0) {
+                    chunks.add(new GameChunk(gameCount));
+                }
+            }
+            return chunks;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package cleancode.minesweeper.tobe.minesweeper.simulation;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.exception.GameException;
+import cleancode.minesweeper.tobe.minesweeper.io.OutputHandler;
+
+public class NoOpOutputHandler implements OutputHandler {
+
+    @Override
+    public void showGameStartComments() {
+    }
+
+    @Override
+    public void showBoard(GameBoard board) {
+    }
+
+    @Override
+    public void showGameWinningComment() {
+    }
+
+    @Override
+    public void showGameLosingComment() {
+    }
+
+    @Override
+    public void showCommentForSelectingCell() {
+    }
+
+    @Override
+    public void showCommentForUserAction() {
+    }
+
+    @Override
+    public void showExceptionMessage(GameException e) {
+    }
+
+    @Override
+    public void showSimpleMessage(String message) {
+    }
+}
@@ -0,0 +1,36 @@
+package cleancode.minesweeper.tobe.minesweeper.simulation;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+import cleancode.minesweeper.tobe.minesweeper.io.InputHandler;
+import cleancode.minesweeper.tobe.minesweeper.user.UserAction;
+
+import java.util.random.RandomGenerator;
+
+public class RandomInputHandler implements InputHandler {
+
+    private final RandomGenerator randomGenerator;
+    private final int rowSize;
+    private final int colSize;
+    private final double flagRatio;
+
+    public RandomInputHandler(RandomGenerator randomGenerator, GameLevel gameLevel, double flagRatio) {
+        this.randomGenerator = randomGenerator;
+        this.rowSize = gameLevel.getRowSize();
+        this.colSize = gameLevel.getColSize();
+        this.flagRatio = flagRatio;
+    }
+
+    @Override
+    public UserAction getUserActionFromUser() {
+        if (randomGenerator.nextDouble() < flagRatio) {
+            return UserAction.FLAG;
+        }
+        return UserAction.OPEN;
+    }
+
+    @Override
+    public CellPosition getCellPositionFromUser() {
+        return CellPosition.of(randomGenerator.nextInt(rowSize), randomGenerator.nextInt(colSize));
+    }
+}
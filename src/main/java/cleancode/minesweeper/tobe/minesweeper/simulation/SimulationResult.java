@@ -0,0 +1,59 @@
+package cleancode.minesweeper.tobe.minesweeper.simulation;
+
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.GameLevel;
+
+public class SimulationResult {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final GameLevel gameLevel;
+    private final long winCount;
+    private final long loseCount;
+    private final long unfinishedCount;
+    private final long elapsedNanos;
+
+    public SimulationResult(GameLevel gameLevel, long winCount, long loseCount, long unfinishedCount, long elapsedNanos) {
+        this.gameLevel = gameLevel;
+        this.winCount = winCount;
+        this.loseCount = loseCount;
+        this.unfinishedCount = unfinishedCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public GameLevel getGameLevel() {
+        return gameLevel;
+    }
+
+    public long getGameCount() {
+        return winCount + loseCount + unfinishedCount;
+    }
+
+    public long getWinCount() {
+        return winCount;
+    }
+
+    public long getLoseCount() {
+        return loseCount;
+    }
+
+    public long getUnfinishedCount() {
+        return unfinishedCount;
+    }
+
+    public double getWinRate() {
+        return (double) winCount / getGameCount();
+    }
+
+    public double getGamesPerSecond() {
+        return getGameCount() * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    public String display() {
+        return String.format(
+                "%s - %d게임, 승리 %d, 패배 %d, 미완료 %d (승률 %.4f%%), 초당 %.1f게임",
+                gameLevel.getClass().getSimpleName(),
+                getGameCount(), winCount, loseCount, unfinishedCount,
+                getWinRate() * 100, getGamesPerSecond()
+        );
+    }
+}
@@ -1,10 +1,17 @@
 package cleancode.studycafe.tobe_personal;
 
+import cleancode.studycafe.tobe_personal.io.StudyCafeFileHandler;
+import cleancode.studycafe.tobe_personal.io.StudyCafePassCatalogService;
+
 public class StudyCafeApplication {
 
     public static void main(String[] args) {
-        StudyCafePassMachine studyCafePassMachine = new StudyCafePassMachine();
-        studyCafePassMachine.run();
+        try (StudyCafePassCatalogService passCatalogService = new StudyCafePassCatalogService(new StudyCafeFileHandler())) {
+            passCatalogService.start();
+
+            StudyCafePassMachine studyCafePassMachine = new StudyCafePassMachine(passCatalogService::getCatalog);
+            studyCafePassMachine.run();
+        }
     }
 
 }
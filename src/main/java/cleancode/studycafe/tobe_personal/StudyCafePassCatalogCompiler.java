@@ -0,0 +1,23 @@
+package cleancode.studycafe.tobe_personal;
+
+import cleancode.studycafe.tobe_personal.io.StudyCafeFileHandler;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 이용권 / 사물함 CSV 를 키오스크가 바로 매핑해서 쓰는 목록 파일로 컴파일한다.
+ * 인자로 CSV 가 있는 디렉터리를 받으며, 없으면 기본 디렉터리를 쓴다.
+ */
+public class StudyCafePassCatalogCompiler {
+
+    public static void main(String[] args) {
+        StudyCafeFileHandler fileHandler = args.length > 0
+            ? new StudyCafeFileHandler(Paths.get(args[0]))
+            : new StudyCafeFileHandler();
+
+        Path compiledCatalogPath = fileHandler.compilePassCatalog();
+        System.out.println("이용권 목록을 컴파일했습니다: " + compiledCatalogPath);
+    }
+
+}
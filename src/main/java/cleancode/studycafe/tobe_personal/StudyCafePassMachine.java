@@ -3,19 +3,30 @@ package cleancode.studycafe.tobe_personal;
 import cleancode.studycafe.tobe_personal.exception.AppException;
 import cleancode.studycafe.tobe_personal.io.InputHandler;
 import cleancode.studycafe.tobe_personal.io.OutputHandler;
-import cleancode.studycafe.tobe_personal.io.StudyCafeFileHandler;
 import cleancode.studycafe.tobe_personal.model.StudyCafeLockerPass;
 import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassCatalog;
 import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+import cleancode.studycafe.tobe_personal.pricing.PassOrder;
+import cleancode.studycafe.tobe_personal.pricing.PassOrderPricingEngine;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 public class StudyCafePassMachine {
 
     private final InputHandler inputHandler = new InputHandler();
     private final OutputHandler outputHandler = new OutputHandler();
+    private final PassOrderPricingEngine pricingEngine = PassOrderPricingEngine.ofCommonPool();
+    private final Supplier<StudyCafePassCatalog> passCatalogSupplier;
+
+    public StudyCafePassMachine(Supplier<StudyCafePassCatalog> passCatalogSupplier) {
+        this.passCatalogSupplier = passCatalogSupplier;
+    }
 
     public void run() {
+        StudyCafePassCatalog passCatalog = passCatalogSupplier.get();
         try {
             outputHandler.showWelcomeMessage();
             outputHandler.showAnnouncement();
@@ -23,54 +34,15 @@ public class StudyCafePassMachine {
             outputHandler.askPassTypeSelection();
             StudyCafePassType studyCafePassType = inputHandler.getPassTypeSelectingUserAction();
 
-            if (studyCafePassType == StudyCafePassType.HOURLY) {
-                StudyCafeFileHandler studyCafeFileHandler = new StudyCafeFileHandler();
-                List<StudyCafePass> studyCafePasses = studyCafeFileHandler.readStudyCafePasses();
-                List<StudyCafePass> hourlyPasses = studyCafePasses.stream()
-                    .filter(studyCafePass -> studyCafePass.getPassType() == StudyCafePassType.HOURLY)
-                    .toList();
-                outputHandler.showPassListForSelection(hourlyPasses);
-                StudyCafePass selectedPass = inputHandler.getSelectPass(hourlyPasses);
-                outputHandler.showPassOrderSummary(selectedPass, null);
-            } else if (studyCafePassType == StudyCafePassType.WEEKLY) {
-                StudyCafeFileHandler studyCafeFileHandler = new StudyCafeFileHandler();
-                List<StudyCafePass> studyCafePasses = studyCafeFileHandler.readStudyCafePasses();
-                List<StudyCafePass> weeklyPasses = studyCafePasses.stream()
-                    .filter(studyCafePass -> studyCafePass.getPassType() == StudyCafePassType.WEEKLY)
-                    .toList();
-                outputHandler.showPassListForSelection(weeklyPasses);
-                StudyCafePass selectedPass = inputHandler.getSelectPass(weeklyPasses);
-                outputHandler.showPassOrderSummary(selectedPass, null);
-            } else if (studyCafePassType == StudyCafePassType.FIXED) {
-                StudyCafeFileHandler studyCafeFileHandler = new StudyCafeFileHandler();
-                List<StudyCafePass> studyCafePasses = studyCafeFileHandler.readStudyCafePasses();
-                List<StudyCafePass> fixedPasses = studyCafePasses.stream()
-                    .filter(studyCafePass -> studyCafePass.getPassType() == StudyCafePassType.FIXED)
-                    .toList();
-                outputHandler.showPassListForSelection(fixedPasses);
-                StudyCafePass selectedPass = inputHandler.getSelectPass(fixedPasses);
-
-                List<StudyCafeLockerPass> lockerPasses = studyCafeFileHandler.readLockerPasses();
-                StudyCafeLockerPass lockerPass = lockerPasses.stream()
-                    .filter(option ->
-                        option.getPassType() == selectedPass.getPassType()
-                            && option.getDuration() == selectedPass.getDuration()
-                    )
-                    .findFirst()
-                    .orElse(null);
+            List<StudyCafePass> passes = passCatalog.findPassesBy(studyCafePassType);
+            outputHandler.showPassListForSelection(passes);
+            StudyCafePass selectedPass = inputHandler.getSelectPass(passes);
 
-                boolean lockerSelection = false;
-                if (lockerPass != null) {
-                    outputHandler.askLockerPass(lockerPass);
-                    lockerSelection = inputHandler.getLockerSelection();
-                }
-
-                if (lockerSelection) {
-                    outputHandler.showPassOrderSummary(selectedPass, lockerPass);
-                } else {
-                    outputHandler.showPassOrderSummary(selectedPass, null);
-                }
-            }
+            Optional<StudyCafeLockerPass> lockerPass = passCatalog.findLockerPassFor(selectedPass);
+            PassOrder order = lockerPass.isPresent() && doesUserSelectLocker(lockerPass.get())
+                ? PassOrder.of(selectedPass, lockerPass.get())
+                : PassOrder.of(selectedPass);
+            outputHandler.showPassOrderSummary(order, pricingEngine.price(order));
         } catch (AppException e) {
             outputHandler.showSimpleMessage(e.getMessage());
         } catch (Exception e) {
@@ -78,4 +50,9 @@ public class StudyCafePassMachine {
         }
     }
 
+    private boolean doesUserSelectLocker(StudyCafeLockerPass lockerPass) {
+        outputHandler.askLockerPass(lockerPass);
+        return inputHandler.getLockerSelection();
+    }
+
 }
@@ -2,6 +2,8 @@ package cleancode.studycafe.tobe_personal.io;
 
 import cleancode.studycafe.tobe_personal.model.StudyCafeLockerPass;
 import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+import cleancode.studycafe.tobe_personal.pricing.PassOrder;
+import cleancode.studycafe.tobe_personal.pricing.PassOrderPrice;
 
 import java.util.List;
 
@@ -42,22 +44,18 @@ public class OutputHandler {
         System.out.println("1. 예 | 2. 아니오");
     }
 
-    public void showPassOrderSummary(StudyCafePass selectedPass, StudyCafeLockerPass lockerPass) {
+    public void showPassOrderSummary(PassOrder order, PassOrderPrice orderPrice) {
         System.out.println();
         System.out.println("이용 내역");
-        System.out.println("이용권: " + selectedPass.display());
-        if (lockerPass != null) {
-            System.out.println("사물함: " + lockerPass.display());
-        }
+        System.out.println("이용권: " + order.getPass().display());
+        order.getLockerPass()
+            .ifPresent(lockerPass -> System.out.println("사물함: " + lockerPass.display()));
 
-        double discountRate = selectedPass.getDiscountRate();
-        int discountPrice = (int) (selectedPass.getPrice() * discountRate);
-        if (discountPrice > 0) {
-            System.out.println("이벤트 할인 금액: " + discountPrice + "원");
+        if (orderPrice.hasDiscount()) {
+            System.out.println("이벤트 할인 금액: " + orderPrice.getDiscountPrice() + "원");
         }
 
-        int totalPrice = selectedPass.getPrice() - discountPrice + (lockerPass != null ? lockerPass.getPrice() : 0);
-        System.out.println("총 결제 금액: " + totalPrice + "원");
+        System.out.println("총 결제 금액: " + orderPrice.getTotalPrice() + "원");
         System.out.println();
     }
 
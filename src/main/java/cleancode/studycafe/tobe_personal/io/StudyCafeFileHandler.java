@@ -1,55 +1,164 @@
 package cleancode.studycafe.tobe_personal.io;
 
+import cleancode.studycafe.tobe_personal.io.csv.CsvEnumField;
+import cleancode.studycafe.tobe_personal.io.csv.CsvFileReader;
+import cleancode.studycafe.tobe_personal.io.csv.CsvFormatException;
+import cleancode.studycafe.tobe_personal.io.csv.CsvReadResult;
+import cleancode.studycafe.tobe_personal.io.csv.CsvRowError;
+import cleancode.studycafe.tobe_personal.io.compiled.CompiledPassCatalogFileStore;
 import cleancode.studycafe.tobe_personal.model.StudyCafeLockerPass;
 import cleancode.studycafe.tobe_personal.model.StudyCafePass;
-import cleancode.studycafe.tobe_leture.model.StudyCafePassType;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassCatalog;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class StudyCafeFileHandler {
 
-    public List<StudyCafePass> readStudyCafePasses() {
-        try {
-            List<String> lines = Files.readAllLines(Paths.get("src/main/resources/cleancode/studycafe/pass-list.csv"));
-            List<StudyCafePass> studyCafePasses = new ArrayList<>();
-            for (String line : lines) {
-                String[] values = line.split(",");
-                StudyCafePassType studyCafePassType = StudyCafePassType.valueOf(values[0]);
-                int duration = Integer.parseInt(values[1]);
-                int price = Integer.parseInt(values[2]);
-                double discountRate = Double.parseDouble(values[3]);
-
-                StudyCafePass studyCafePass = StudyCafePass.of(studyCafePassType, duration, price, discountRate);
-                studyCafePasses.add(studyCafePass);
-            }
+    public static final String PASS_LIST_FILE_NAME = "pass-list.csv";
+    public static final String LOCKER_FILE_NAME = "locker.csv";
+    public static final String COMPILED_CATALOG_FILE_NAME = "pass-catalog.bin";
+    private static final Path DEFAULT_DIRECTORY = Paths.get("src/main/resources/cleancode/studycafe");
+    private static final int DISCOUNT_RATE_FRACTION_DIGITS = 4;
+    private static final int MAX_DISCOUNT_BASIS_POINTS = 10_000;
+    private static final CsvEnumField<StudyCafePassType> PASS_TYPE_FIELD = CsvEnumField.of(StudyCafePassType.class);
 
-            return studyCafePasses;
-        } catch (IOException e) {
-            throw new RuntimeException("파일을 읽는데 실패했습니다.", e);
+    private final Path directory;
+    private final CsvFileReader csvReader = new CsvFileReader();
+    private final CompiledPassCatalogFileStore compiledCatalogStore = new CompiledPassCatalogFileStore();
+    private final Consumer<String> errorReporter;
+
+    public StudyCafeFileHandler() {
+        this(DEFAULT_DIRECTORY);
+    }
+
+    public StudyCafeFileHandler(Path directory) {
+        this(directory, System.err::println);
+    }
+
+    /**
+     * 형식이 맞지 않는 줄은 건너뛰고, 파일 이름과 줄 번호를 담은 메시지를 errorReporter 로 알린다.
+     */
+    public StudyCafeFileHandler(Path directory, Consumer<String> errorReporter) {
+        this.directory = directory;
+        this.errorReporter = errorReporter;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * CSV 보다 새로 컴파일된 목록이 있으면 그 파일을 매핑해서 쓰고, 없으면 CSV 를 읽는다.
+     */
+    public StudyCafePassCatalog readPassCatalog() {
+        Path compiledCatalogPath = directory.resolve(COMPILED_CATALOG_FILE_NAME);
+        if (isUpToDate(compiledCatalogPath)) {
+            return compiledCatalogStore.load(compiledCatalogPath);
+        }
+        return readCsvPassCatalog();
+    }
+
+    /**
+     * 실행 중에 다시 읽을 때 쓴다. 편집 중이라 잘못된 줄이 있거나 이용권이 하나도 없으면
+     * 일부만 담긴 목록으로 바뀌지 않도록 {@link CsvFormatException} 을 던진다.
+     */
+    public StudyCafePassCatalog reloadPassCatalog() {
+        Path compiledCatalogPath = directory.resolve(COMPILED_CATALOG_FILE_NAME);
+        if (isUpToDate(compiledCatalogPath)) {
+            return compiledCatalogStore.load(compiledCatalogPath);
+        }
+        List<StudyCafePass> passes = requireNoErrors(PASS_LIST_FILE_NAME, readStudyCafePassResult());
+        if (passes.isEmpty()) {
+            throw new CsvFormatException(PASS_LIST_FILE_NAME + " 에 이용권이 없습니다.");
         }
+        return StudyCafePassCatalog.of(passes, requireNoErrors(LOCKER_FILE_NAME, readLockerPassResult()));
+    }
+
+    public StudyCafePassCatalog readCsvPassCatalog() {
+        return StudyCafePassCatalog.of(readStudyCafePasses(), readLockerPasses());
+    }
+
+    /**
+     * 컴파일된 목록은 CSV 보다 먼저 쓰이므로, 잘못된 줄이 있으면 건너뛰지 않고 {@link CsvFormatException} 을 던진다.
+     */
+    public Path compilePassCatalog() {
+        Path compiledCatalogPath = directory.resolve(COMPILED_CATALOG_FILE_NAME);
+        compiledCatalogStore.save(
+            requireNoErrors(PASS_LIST_FILE_NAME, readStudyCafePassResult()),
+            requireNoErrors(LOCKER_FILE_NAME, readLockerPassResult()),
+            compiledCatalogPath
+        );
+        return compiledCatalogPath;
+    }
+
+    public List<StudyCafePass> readStudyCafePasses() {
+        CsvReadResult<StudyCafePass> result = readStudyCafePassResult();
+        reportErrors(PASS_LIST_FILE_NAME, result.getErrors());
+        return result.getRows();
     }
 
     public List<StudyCafeLockerPass> readLockerPasses() {
+        CsvReadResult<StudyCafeLockerPass> result = readLockerPassResult();
+        reportErrors(LOCKER_FILE_NAME, result.getErrors());
+        return result.getRows();
+    }
+
+    private CsvReadResult<StudyCafePass> readStudyCafePassResult() {
+        return csvReader.read(directory.resolve(PASS_LIST_FILE_NAME), row -> StudyCafePass.of(
+            row.nextEnum(PASS_TYPE_FIELD),
+            row.nextIntAtLeast(1),
+            row.nextIntAtLeast(0),
+            row.nextFixedPointBetween(DISCOUNT_RATE_FRACTION_DIGITS, 0, MAX_DISCOUNT_BASIS_POINTS)
+        ));
+    }
+
+    private CsvReadResult<StudyCafeLockerPass> readLockerPassResult() {
+        return csvReader.read(directory.resolve(LOCKER_FILE_NAME), row -> StudyCafeLockerPass.of(
+            row.nextEnum(PASS_TYPE_FIELD),
+            row.nextIntAtLeast(1),
+            row.nextIntAtLeast(0)
+        ));
+    }
+
+    /**
+     * CSV 가 컴파일된 목록보다 확실히 먼저 수정된 경우에만 최신으로 본다. 파일 시각의 단위가 거칠어
+     * 컴파일 직후에 고친 CSV 가 같은 시각을 가질 수 있으므로, 같으면 CSV 를 다시 읽는다.
+     */
+    private boolean isUpToDate(Path compiledCatalogPath) {
         try {
-            List<String> lines = Files.readAllLines(Paths.get("src/main/resources/cleancode/studycafe/locker.csv"));
-            List<StudyCafeLockerPass> lockerPasses = new ArrayList<>();
-            for (String line : lines) {
-                String[] values = line.split(",");
-                StudyCafePassType studyCafePassType = StudyCafePassType.valueOf(values[0]);
-                int duration = Integer.parseInt(values[1]);
-                int price = Integer.parseInt(values[2]);
-
-                StudyCafeLockerPass lockerPass = StudyCafeLockerPass.of(studyCafePassType, duration, price);
-                lockerPasses.add(lockerPass);
+            if (Files.notExists(compiledCatalogPath)) {
+                return false;
             }
-
-            return lockerPasses;
+            FileTime compiledTime = Files.getLastModifiedTime(compiledCatalogPath);
+            return isModifiedBefore(directory.resolve(PASS_LIST_FILE_NAME), compiledTime)
+                && isModifiedBefore(directory.resolve(LOCKER_FILE_NAME), compiledTime);
         } catch (IOException e) {
-            throw new RuntimeException("파일을 읽는데 실패했습니다.", e);
+            throw new UncheckedIOException("파일 정보를 읽는데 실패했습니다.", e);
+        }
+    }
+
+    private boolean isModifiedBefore(Path csvPath, FileTime compiledTime) throws IOException {
+        return Files.notExists(csvPath) || Files.getLastModifiedTime(csvPath).compareTo(compiledTime) < 0;
+    }
+
+    private <T> List<T> requireNoErrors(String fileName, CsvReadResult<T> result) {
+        if (result.hasErrors()) {
+            throw new CsvFormatException(String.format("%s 에 잘못된 줄이 있습니다. %s", fileName, result.getErrors().get(0).display()));
+        }
+        return result.getRows();
+    }
+
+    private void reportErrors(String fileName, List<CsvRowError> errors) {
+        for (CsvRowError error : errors) {
+            errorReporter.accept(String.format("%s 의 잘못된 줄을 건너뜁니다. %s", fileName, error.display()));
         }
     }
 
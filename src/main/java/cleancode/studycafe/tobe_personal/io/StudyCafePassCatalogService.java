@@ -0,0 +1,132 @@
+package cleancode.studycafe.tobe_personal.io;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafePassCatalog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 이용권 / 사물함 CSV 나 컴파일된 목록이 바뀌면 백그라운드에서 다시 읽어 새 목록으로 한 번에 바꿔 끼운다.
+ * 거래는 시작할 때 {@link #getCatalog()} 로 받은 목록 하나만 끝까지 쓰므로 도중에 바뀌어도 일관되고, 읽기는 디스크를 건드리지 않는다.
+ * 편집 중이라 파일을 읽지 못하거나 잘못된 줄이 있으면 이전 목록을 그대로 둔다. 폴더가 지워져 감시할 수 없게 되면 자동 갱신을 멈춘다.
+ */
+public class StudyCafePassCatalogService implements AutoCloseable {
+
+    private static final Set<String> WATCHED_FILE_NAMES = Set.of(
+        StudyCafeFileHandler.PASS_LIST_FILE_NAME,
+        StudyCafeFileHandler.LOCKER_FILE_NAME,
+        StudyCafeFileHandler.COMPILED_CATALOG_FILE_NAME
+    );
+    private static final long SETTLE_MILLIS = 100;
+
+    private final StudyCafeFileHandler fileHandler;
+    private final AtomicReference<StudyCafePassCatalog> catalog;
+    private final WatchService watchService;
+    private final Thread watcherThread;
+
+    public StudyCafePassCatalogService(StudyCafeFileHandler fileHandler) {
+        this.fileHandler = fileHandler;
+        this.catalog = new AtomicReference<>(fileHandler.readPassCatalog());
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+            fileHandler.getDirectory().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("이용권 파일을 감시할 수 없습니다.", e);
+        }
+        this.watcherThread = new Thread(this::watch, "pass-catalog-watcher");
+        this.watcherThread.setDaemon(true);
+    }
+
+    public void start() {
+        watcherThread.start();
+    }
+
+    public StudyCafePassCatalog getCatalog() {
+        return catalog.get();
+    }
+
+    /**
+     * @return 새 목록으로 바꿨으면 true, 파일을 읽지 못했거나 잘못된 줄이 있어 이전 목록을 유지하면 false
+     */
+    public boolean reload() {
+        try {
+            catalog.set(fileHandler.reloadPassCatalog());
+            return true;
+        } catch (RuntimeException e) {
+            System.err.println("이용권 목록을 다시 읽지 못해 이전 목록을 유지합니다: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("이용권 파일 감시를 종료할 수 없습니다.", e);
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey watchKey = watchService.take();
+                boolean catalogFileChanged = containsCatalogFile(watchKey);
+                boolean watchable = watchKey.reset();
+
+                if (catalogFileChanged) {
+                    Thread.sleep(SETTLE_MILLIS);
+                    watchable &= drainPendingEvents();
+                    reload();
+                }
+                if (!watchable) {
+                    System.err.println("이용권 폴더를 더 이상 감시할 수 없어 자동 갱신을 멈춥니다: " + fileHandler.getDirectory());
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // close() 로 종료되었다.
+        }
+    }
+
+    /**
+     * @return 감시 키가 아직 유효하면 true
+     */
+    private boolean drainPendingEvents() {
+        boolean watchable = true;
+        WatchKey watchKey;
+        while ((watchKey = watchService.poll()) != null) {
+            watchKey.pollEvents();
+            watchable &= watchKey.reset();
+        }
+        return watchable;
+    }
+
+    private boolean containsCatalogFile(WatchKey watchKey) {
+        boolean found = false;
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            // 이벤트가 넘쳐 버려졌으면 무엇이 바뀌었는지 모르므로 다시 읽는다.
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                found = true;
+            } else if (event.context() instanceof Path changedPath
+                && WATCHED_FILE_NAMES.contains(changedPath.getFileName().toString())) {
+                found = true;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,60 @@
+package cleancode.studycafe.tobe_personal.io.compiled;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafeLockerPass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassCatalog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link CompiledPassCatalogFormat} 으로 이용권 목록을 파일에 저장하고, 메모리 매핑해서 읽는다.
+ * 실행 중인 키오스크가 이전 파일을 매핑하고 있을 수 있으므로, 임시 파일에 다 쓴 뒤 한 번에 바꿔 끼운다.
+ */
+public class CompiledPassCatalogFileStore {
+
+    public void save(List<StudyCafePass> passes, List<StudyCafeLockerPass> lockerPasses, Path path) {
+        ByteBuffer encoded = CompiledPassCatalogFormat.encode(passes, lockerPasses);
+        Path directory = path.toAbsolutePath().getParent();
+        Path temporaryPath = null;
+        try {
+            temporaryPath = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.WRITE)) {
+                while (encoded.hasRemaining()) {
+                    channel.write(encoded);
+                }
+                channel.force(true);
+            }
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temporaryPath);
+            throw new UncheckedIOException("이용권 목록을 저장할 수 없습니다: " + path, e);
+        }
+    }
+
+    public StudyCafePassCatalog load(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return CompiledPassCatalogFormat.read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("이용권 목록을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 저장 실패를 알리는 예외가 더 중요하다.
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package cleancode.studycafe.tobe_personal.io.compiled;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafeLockerPass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassCatalog;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 컴파일한 이용권 목록 형식. 모든 값은 big-endian 이다.
+ * <pre>
+ * magic(int "SCPC") | version(short) | typeCount(short) | passCount(int) | lockerPassCount(int)
+ * 종류마다: passStart(int) | passCount(int) | lockerPassStart(int) | lockerPassCount(int)
+ * 이용권(12 bytes): type(byte) | reserved(byte) | discountBasisPoints(short) | duration(int) | price(int)
+ * 사물함(12 bytes): type(byte) | reserved(3 bytes) | duration(int) | price(int)
+ * </pre>
+ * 이용권은 종류별로 CSV 순서를 유지하고, 사물함 이용권은 종류별로 기간 순으로 정렬해 둔다. 같은 기간이 여럿이면 처음 것만 남긴다.
+ * 할인율이 0 ~ 10000 basis point 를 벗어나면 컴파일하지 않는다.
+ * 종류는 enum 순서 값으로 저장하므로 {@link StudyCafePassType} 이 바뀌면 다시 컴파일해야 한다.
+ */
+public final class CompiledPassCatalogFormat {
+
+    static final int RECORD_SIZE = 12;
+    private static final int MAX_DISCOUNT_BASIS_POINTS = 10_000;
+
+    private static final int MAGIC = 0x53435043;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int TYPE_INDEX_SIZE = 16;
+    private static final StudyCafePassType[] PASS_TYPES = StudyCafePassType.values();
+
+    private CompiledPassCatalogFormat() {
+    }
+
+    public static ByteBuffer encode(List<StudyCafePass> passes, List<StudyCafeLockerPass> lockerPasses) {
+        List<List<StudyCafePass>> passesByType = groupPassesByType(passes);
+        List<List<StudyCafeLockerPass>> lockerPassesByType = groupLockerPassesByType(lockerPasses);
+        int passCount = totalSize(passesByType);
+        int lockerPassCount = totalSize(lockerPassesByType);
+
+        ByteBuffer target = ByteBuffer.allocate(recordsOffset() + (passCount + lockerPassCount) * RECORD_SIZE);
+        target.putInt(MAGIC);
+        target.putShort(VERSION);
+        target.putShort((short) PASS_TYPES.length);
+        target.putInt(passCount);
+        target.putInt(lockerPassCount);
+
+        int passStart = 0;
+        int lockerPassStart = passCount;
+        for (StudyCafePassType passType : PASS_TYPES) {
+            int typedPassCount = passesByType.get(passType.ordinal()).size();
+            int typedLockerPassCount = lockerPassesByType.get(passType.ordinal()).size();
+            target.putInt(passStart);
+            target.putInt(typedPassCount);
+            target.putInt(lockerPassStart);
+            target.putInt(typedLockerPassCount);
+            passStart += typedPassCount;
+            lockerPassStart += typedLockerPassCount;
+        }
+
+        for (List<StudyCafePass> typedPasses : passesByType) {
+            for (StudyCafePass pass : typedPasses) {
+                target.put((byte) pass.getPassType().ordinal());
+                target.put((byte) 0);
+                target.putShort(toShortBasisPoints(pass.getDiscountBasisPoints()));
+                target.putInt(pass.getDuration());
+                target.putInt(pass.getPrice());
+            }
+        }
+        for (List<StudyCafeLockerPass> typedLockerPasses : lockerPassesByType) {
+            for (StudyCafeLockerPass lockerPass : typedLockerPasses) {
+                target.put((byte) lockerPass.getPassType().ordinal());
+                target.put(new byte[3]);
+                target.putInt(lockerPass.getDuration());
+                target.putInt(lockerPass.getPrice());
+            }
+        }
+        return target.flip();
+    }
+
+    /**
+     * 헤더만 확인하고 레코드는 읽지 않는다. 돌려주는 목록은 꺼낼 때마다 source 에서 이용권을 만든다.
+     */
+    public static StudyCafePassCatalog read(ByteBuffer source) {
+        if (source.remaining() < HEADER_SIZE || source.getInt(source.position()) != MAGIC) {
+            throw new IllegalArgumentException("컴파일된 이용권 목록 파일이 아닙니다.");
+        }
+        ByteBuffer catalog = source.slice();
+        short version = catalog.getShort(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 이용권 목록 버전입니다: " + version);
+        }
+        if (catalog.getShort(6) != PASS_TYPES.length) {
+            throw new IllegalArgumentException("이용권 종류가 바뀌었습니다. 목록을 다시 컴파일해 주세요.");
+        }
+        int passCount = catalog.getInt(8);
+        int lockerPassCount = catalog.getInt(12);
+        int recordCount = passCount + lockerPassCount;
+        if (passCount < 0 || lockerPassCount < 0 || recordCount < 0
+                || catalog.remaining() < recordsOffset() + (long) recordCount * RECORD_SIZE) {
+            throw new IllegalArgumentException("이용권 목록 파일이 손상되었습니다.");
+        }
+
+        Map<StudyCafePassType, List<StudyCafePass>> passesByType = new EnumMap<>(StudyCafePassType.class);
+        Map<StudyCafePassType, Map<Integer, StudyCafeLockerPass>> lockerPassesByType = new EnumMap<>(StudyCafePassType.class);
+        for (StudyCafePassType passType : PASS_TYPES) {
+            int indexOffset = HEADER_SIZE + passType.ordinal() * TYPE_INDEX_SIZE;
+            int passStart = catalog.getInt(indexOffset);
+            int typedPassCount = catalog.getInt(indexOffset + 4);
+            int lockerPassStart = catalog.getInt(indexOffset + 8);
+            int typedLockerPassCount = catalog.getInt(indexOffset + 12);
+            checkRange(passStart, typedPassCount, 0, passCount);
+            checkRange(lockerPassStart, typedLockerPassCount, passCount, recordCount);
+
+            passesByType.put(passType, new MappedPassList(catalog, recordOffset(passStart), typedPassCount, passType));
+            lockerPassesByType.put(passType, new MappedLockerPassMap(catalog, recordOffset(lockerPassStart), typedLockerPassCount, passType));
+        }
+        return StudyCafePassCatalog.ofIndexed(passesByType, lockerPassesByType);
+    }
+
+    private static List<List<StudyCafePass>> groupPassesByType(List<StudyCafePass> passes) {
+        List<List<StudyCafePass>> passesByType = new ArrayList<>();
+        for (int i = 0; i < PASS_TYPES.length; i++) {
+            passesByType.add(new ArrayList<>());
+        }
+        for (StudyCafePass pass : passes) {
+            passesByType.get(pass.getPassType().ordinal()).add(pass);
+        }
+        return passesByType;
+    }
+
+    private static List<List<StudyCafeLockerPass>> groupLockerPassesByType(List<StudyCafeLockerPass> lockerPasses) {
+        List<List<StudyCafeLockerPass>> lockerPassesByType = new ArrayList<>();
+        for (int i = 0; i < PASS_TYPES.length; i++) {
+            lockerPassesByType.add(new ArrayList<>());
+        }
+        for (StudyCafeLockerPass lockerPass : lockerPasses) {
+            lockerPassesByType.get(lockerPass.getPassType().ordinal()).add(lockerPass);
+        }
+        for (List<StudyCafeLockerPass> typedLockerPasses : lockerPassesByType) {
+            typedLockerPasses.sort(Comparator.comparingInt(StudyCafeLockerPass::getDuration));
+            removeLaterDuplicateDurations(typedLockerPasses);
+        }
+        return lockerPassesByType;
+    }
+
+    private static void removeLaterDuplicateDurations(List<StudyCafeLockerPass> sortedLockerPasses) {
+        for (int i = sortedLockerPasses.size() - 1; i > 0; i--) {
+            if (sortedLockerPasses.get(i).getDuration() == sortedLockerPasses.get(i - 1).getDuration()) {
+                sortedLockerPasses.remove(i);
+            }
+        }
+    }
+
+    private static int totalSize(List<? extends List<?>> groups) {
+        int size = 0;
+        for (List<?> group : groups) {
+            size += group.size();
+        }
+        return size;
+    }
+
+    private static short toShortBasisPoints(int discountBasisPoints) {
+        if (discountBasisPoints < 0 || discountBasisPoints > MAX_DISCOUNT_BASIS_POINTS) {
+            throw new IllegalArgumentException("할인율은 0 ~ 10000 basis point 사이여야 합니다: " + discountBasisPoints);
+        }
+        return (short) discountBasisPoints;
+    }
+
+    private static void checkRange(int start, int count, int from, int to) {
+        if (count < 0 || start < from || start > to - count) {
+            throw new IllegalArgumentException("이용권 목록 파일이 손상되었습니다.");
+        }
+    }
+
+    private static int recordsOffset() {
+        return HEADER_SIZE + PASS_TYPES.length * TYPE_INDEX_SIZE;
+    }
+
+    private static int recordOffset(int recordIndex) {
+        return recordsOffset() + recordIndex * RECORD_SIZE;
+    }
+}
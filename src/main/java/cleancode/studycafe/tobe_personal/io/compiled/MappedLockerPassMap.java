@@ -0,0 +1,106 @@
+package cleancode.studycafe.tobe_personal.io.compiled;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafeLockerPass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 기간 순으로 정렬된 한 종류의 사물함 레코드 구간을 기간으로 찾는 맵으로 보여준다. 찾을 때는 이진 탐색한다.
+ */
+class MappedLockerPassMap extends AbstractMap<Integer, StudyCafeLockerPass> {
+
+    private final ByteBuffer records;
+    private final int offset;
+    private final int size;
+    private final StudyCafePassType passType;
+
+    MappedLockerPassMap(ByteBuffer records, int offset, int size, StudyCafePassType passType) {
+        this.records = records;
+        this.offset = offset;
+        this.size = size;
+        this.passType = passType;
+    }
+
+    @Override
+    public StudyCafeLockerPass get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : lockerPassAt(index);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<Integer, StudyCafeLockerPass>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Integer, StudyCafeLockerPass>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < size;
+                    }
+
+                    @Override
+                    public Entry<Integer, StudyCafeLockerPass> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        StudyCafeLockerPass lockerPass = lockerPassAt(index++);
+                        return Map.entry(lockerPass.getDuration(), lockerPass);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof Integer duration)) {
+            return -1;
+        }
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleDuration = durationAt(middle);
+            if (middleDuration < duration) {
+                low = middle + 1;
+            } else if (middleDuration > duration) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private int durationAt(int index) {
+        return records.getInt(offset + index * CompiledPassCatalogFormat.RECORD_SIZE + 4);
+    }
+
+    private StudyCafeLockerPass lockerPassAt(int index) {
+        int recordOffset = offset + index * CompiledPassCatalogFormat.RECORD_SIZE;
+        return StudyCafeLockerPass.of(passType, records.getInt(recordOffset + 4), records.getInt(recordOffset + 8));
+    }
+}
@@ -0,0 +1,42 @@
+package cleancode.studycafe.tobe_personal.io.compiled;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * 한 종류의 이용권 레코드 구간을 목록으로 보여준다. 절대 위치로만 읽으므로 여러 스레드가 같이 읽어도 된다.
+ */
+class MappedPassList extends AbstractList<StudyCafePass> implements RandomAccess {
+
+    private final ByteBuffer records;
+    private final int offset;
+    private final int size;
+    private final StudyCafePassType passType;
+
+    MappedPassList(ByteBuffer records, int offset, int size, StudyCafePassType passType) {
+        this.records = records;
+        this.offset = offset;
+        this.size = size;
+        this.passType = passType;
+    }
+
+    @Override
+    public StudyCafePass get(int index) {
+        Objects.checkIndex(index, size);
+        int recordOffset = offset + index * CompiledPassCatalogFormat.RECORD_SIZE;
+        short discountBasisPoints = records.getShort(recordOffset + 2);
+        int duration = records.getInt(recordOffset + 4);
+        int price = records.getInt(recordOffset + 8);
+        return StudyCafePass.of(passType, duration, price, discountBasisPoints);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
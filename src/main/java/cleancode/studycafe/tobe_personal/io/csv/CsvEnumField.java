@@ -0,0 +1,32 @@
+package cleancode.studycafe.tobe_personal.io.csv;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * enum 상수 이름을 미리 바이트로 바꿔 두고, 줄 안의 바이트와 바로 비교해서 상수를 찾는다.
+ */
+public class CsvEnumField<E extends Enum<E>> {
+
+    private final E[] constants;
+    private final byte[][] names;
+
+    private CsvEnumField(E[] constants) {
+        this.constants = constants;
+        this.names = new byte[constants.length][];
+        for (int i = 0; i < constants.length; i++) {
+            names[i] = constants[i].name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    public static <E extends Enum<E>> CsvEnumField<E> of(Class<E> enumType) {
+        return new CsvEnumField<>(enumType.getEnumConstants());
+    }
+
+    E[] getConstants() {
+        return constants;
+    }
+
+    byte[] getNameAt(int ordinal) {
+        return names[ordinal];
+    }
+}
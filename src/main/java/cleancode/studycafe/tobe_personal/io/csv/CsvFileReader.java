@@ -0,0 +1,107 @@
+package cleancode.studycafe.tobe_personal.io.csv;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 파일을 힙 버퍼로 한 번에 읽고 줄마다 {@link CsvRow} 커서를 옮겨 가며 읽는다. 줄이나 값마다 String 을 만들지 않는다.
+ * 나눠 읽는 스트리밍 방식이 아니어서 파일 크기만큼 메모리를 쓰고, 버퍼 하나에 담을 수 없는 2 GiB 이상의 파일은 읽지 않는다.
+ * 이용권 목록처럼 작은 파일을 읽기 위한 것이다.
+ * 메모리 매핑은 편집 중에 파일이 잘리면 읽는 스레드가 InternalError 로 죽으므로 쓰지 않는다.
+ * 빈 줄은 건너뛰고, 형식이 맞지 않는 줄은 줄 번호와 함께 오류로 모은 뒤 다음 줄을 계속 읽는다.
+ */
+public class CsvFileReader {
+
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    public <T> CsvReadResult<T> read(Path path, CsvRowMapper<T> rowMapper) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("CSV 파일이 너무 큽니다: " + path);
+            }
+            return read(readFully(channel, (int) size), rowMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일을 읽는데 실패했습니다: " + path, e);
+        }
+    }
+
+    public <T> CsvReadResult<T> read(ByteBuffer buffer, CsvRowMapper<T> rowMapper) {
+        List<T> rows = new ArrayList<>();
+        List<CsvRowError> errors = new ArrayList<>();
+        CsvRow row = new CsvRow(buffer);
+
+        int limit = buffer.limit();
+        int lineStart = skipBom(buffer, buffer.position());
+        int lineNumber = 0;
+        while (lineStart < limit) {
+            int lineEnd = findLineEnd(buffer, lineStart, limit);
+            lineNumber++;
+
+            row.pointTo(lineStart, trimCarriageReturn(buffer, lineStart, lineEnd));
+            if (!row.isBlank()) {
+                readRow(row, rowMapper, lineNumber, rows, errors);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return CsvReadResult.of(rows, errors);
+    }
+
+    /**
+     * 읽는 도중 파일이 줄어들면 읽은 데까지만 쓴다.
+     */
+    private ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        return buffer.flip();
+    }
+
+    private <T> void readRow(CsvRow row, CsvRowMapper<T> rowMapper, int lineNumber, List<T> rows, List<CsvRowError> errors) {
+        try {
+            T mapped = rowMapper.map(row);
+            row.expectEnd();
+            rows.add(mapped);
+        } catch (CsvFormatException e) {
+            errors.add(CsvRowError.of(lineNumber, e.getMessage()));
+        }
+    }
+
+    private int skipBom(ByteBuffer buffer, int position) {
+        if (buffer.limit() - position < UTF8_BOM.length) {
+            return position;
+        }
+        for (int i = 0; i < UTF8_BOM.length; i++) {
+            if (buffer.get(position + i) != UTF8_BOM[i]) {
+                return position;
+            }
+        }
+        return position + UTF8_BOM.length;
+    }
+
+    private int findLineEnd(ByteBuffer buffer, int from, int limit) {
+        int index = from;
+        while (index < limit && buffer.get(index) != LINE_FEED) {
+            index++;
+        }
+        return index;
+    }
+
+    private int trimCarriageReturn(ByteBuffer buffer, int lineStart, int lineEnd) {
+        if (lineEnd > lineStart && buffer.get(lineEnd - 1) == CARRIAGE_RETURN) {
+            return lineEnd - 1;
+        }
+        return lineEnd;
+    }
+}
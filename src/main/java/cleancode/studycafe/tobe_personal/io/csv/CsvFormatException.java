@@ -0,0 +1,8 @@
+package cleancode.studycafe.tobe_personal.io.csv;
+
+public class CsvFormatException extends RuntimeException {
+
+    public CsvFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package cleancode.studycafe.tobe_personal.io.csv;
+
+import java.util.List;
+
+public class CsvReadResult<T> {
+
+    private final List<T> rows;
+    private final List<CsvRowError> errors;
+
+    private CsvReadResult(List<T> rows, List<CsvRowError> errors) {
+        this.rows = rows;
+        this.errors = errors;
+    }
+
+    public static <T> CsvReadResult<T> of(List<T> rows, List<CsvRowError> errors) {
+        return new CsvReadResult<>(List.copyOf(rows), List.copyOf(errors));
+    }
+
+    public List<T> getRows() {
+        return rows;
+    }
+
+    public List<CsvRowError> getErrors() {
+        return errors;
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
@@ -0,0 +1,217 @@
+package cleancode.studycafe.tobe_personal.io.csv;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+/**
+ * 버퍼 안의 한 줄을 가리키는 커서. 값을 문자열로 잘라내지 않고 바이트를 바로 읽어 숫자와 enum 으로 바꾼다.
+ * 값 앞뒤의 공백은 무시한다. 리더가 줄마다 다시 가리키도록 재사용한다.
+ */
+public class CsvRow {
+
+    private static final byte DELIMITER = ',';
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    private final ByteBuffer buffer;
+    private int cursor;
+    private int end;
+    private int fieldNumber;
+    private boolean hasNextField;
+
+    CsvRow(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    void pointTo(int start, int end) {
+        this.cursor = start;
+        this.end = end;
+        this.fieldNumber = 0;
+        this.hasNextField = true;
+    }
+
+    boolean isBlank() {
+        for (int i = cursor; i < end; i++) {
+            if (!isSpace(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int nextInt() {
+        startField();
+        boolean negative = consumeIf((byte) '-');
+        long value = 0;
+        int digitCount = 0;
+        while (cursor < end && isDigit(buffer.get(cursor))) {
+            value = value * 10 + (buffer.get(cursor++) - '0');
+            digitCount++;
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw fieldError("숫자가 너무 큽니다.");
+            }
+        }
+        if (digitCount == 0) {
+            throw fieldError("정수가 아닙니다.");
+        }
+        long signed = negative ? -value : value;
+        if (signed > Integer.MAX_VALUE) {
+            throw fieldError("숫자가 너무 큽니다.");
+        }
+        finishField();
+        return (int) signed;
+    }
+
+    /**
+     * 소수점이 있는 10진수를 10^fractionDigits 배 한 정수로 정확하게 읽는다. fractionDigits 가 4 이면 "0.15" 는 1500 이다.
+     * 소수점 아래 fractionDigits 자리를 넘는 0 아닌 숫자가 있으면 오류로 본다.
+     */
+    public int nextFixedPoint(int fractionDigits) {
+        startField();
+        boolean negative = consumeIf((byte) '-');
+        long integerPart = 0;
+        int digitCount = 0;
+        while (cursor < end && isDigit(buffer.get(cursor))) {
+            integerPart = integerPart * 10 + (buffer.get(cursor++) - '0');
+            digitCount++;
+            if (integerPart > Integer.MAX_VALUE) {
+                throw fieldError("숫자가 너무 큽니다.");
+            }
+        }
+
+        long fractionPart = 0;
+        int fractionDigitCount = 0;
+        if (consumeIf((byte) '.')) {
+            while (cursor < end && isDigit(buffer.get(cursor))) {
+                int digit = buffer.get(cursor++) - '0';
+                digitCount++;
+                if (fractionDigitCount < fractionDigits) {
+                    fractionPart = fractionPart * 10 + digit;
+                    fractionDigitCount++;
+                } else if (digit != 0) {
+                    throw fieldError(String.format("소수점 아래 %d자리까지만 쓸 수 있습니다.", fractionDigits));
+                }
+            }
+        }
+        if (digitCount == 0) {
+            throw fieldError("숫자가 아닙니다.");
+        }
+        finishField();
+
+        for (int i = fractionDigitCount; i < fractionDigits; i++) {
+            fractionPart *= 10;
+        }
+        long value = integerPart * POWERS_OF_TEN[fractionDigits] + fractionPart;
+        if (value > Integer.MAX_VALUE) {
+            throw fieldError("숫자가 너무 큽니다.");
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    public int nextIntAtLeast(int min) {
+        int value = nextInt();
+        if (value < min) {
+            throw fieldError(String.format("%d 이상이어야 합니다.", min));
+        }
+        return value;
+    }
+
+    /**
+     * 범위는 {@link #nextFixedPoint(int)} 가 돌려주는 정수 기준이고, 오류 메시지에는 파일에 쓰는 소수로 보여 준다.
+     */
+    public int nextFixedPointBetween(int fractionDigits, int min, int max) {
+        int value = nextFixedPoint(fractionDigits);
+        if (value < min || value > max) {
+            throw fieldError(String.format("%s 이상 %s 이하여야 합니다.",
+                toDecimalText(min, fractionDigits), toDecimalText(max, fractionDigits)));
+        }
+        return value;
+    }
+
+    public <E extends Enum<E>> E nextEnum(CsvEnumField<E> enumField) {
+        startField();
+        int fieldStart = cursor;
+        while (cursor < end && buffer.get(cursor) != DELIMITER && !isSpace(buffer.get(cursor))) {
+            cursor++;
+        }
+        int fieldLength = cursor - fieldStart;
+
+        for (E constant : enumField.getConstants()) {
+            if (matches(enumField.getNameAt(constant.ordinal()), fieldStart, fieldLength)) {
+                finishField();
+                return constant;
+            }
+        }
+        throw fieldError("알 수 없는 값입니다.");
+    }
+
+    void expectEnd() {
+        if (hasNextField) {
+            fieldNumber++;
+            throw fieldError("값이 너무 많습니다.");
+        }
+    }
+
+    private void startField() {
+        fieldNumber++;
+        if (!hasNextField) {
+            throw fieldError("값이 없습니다.");
+        }
+        skipSpaces();
+    }
+
+    private void finishField() {
+        skipSpaces();
+        if (cursor == end) {
+            hasNextField = false;
+            return;
+        }
+        if (buffer.get(cursor) != DELIMITER) {
+            throw fieldError("형식이 올바르지 않습니다.");
+        }
+        cursor++;
+    }
+
+    private boolean matches(byte[] name, int fieldStart, int fieldLength) {
+        if (name.length != fieldLength) {
+            return false;
+        }
+        for (int i = 0; i < fieldLength; i++) {
+            if (buffer.get(fieldStart + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean consumeIf(byte expected) {
+        if (cursor < end && buffer.get(cursor) == expected) {
+            cursor++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipSpaces() {
+        while (cursor < end && isSpace(buffer.get(cursor))) {
+            cursor++;
+        }
+    }
+
+    private CsvFormatException fieldError(String message) {
+        return new CsvFormatException(String.format("%d번째 값: %s", fieldNumber, message));
+    }
+
+    private static String toDecimalText(int value, int fractionDigits) {
+        return BigDecimal.valueOf(value, fractionDigits).stripTrailingZeros().toPlainString();
+    }
+
+    private static boolean isDigit(byte value) {
+        return value >= '0' && value <= '9';
+    }
+
+    private static boolean isSpace(byte value) {
+        return value == ' ' || value == '\t';
+    }
+}
@@ -0,0 +1,28 @@
+package cleancode.studycafe.tobe_personal.io.csv;
+
+public class CsvRowError {
+
+    private final int lineNumber;
+    private final String message;
+
+    private CsvRowError(int lineNumber, String message) {
+        this.lineNumber = lineNumber;
+        this.message = message;
+    }
+
+    public static CsvRowError of(int lineNumber, String message) {
+        return new CsvRowError(lineNumber, message);
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String display() {
+        return String.format("%d번째 줄: %s", lineNumber, message);
+    }
+}
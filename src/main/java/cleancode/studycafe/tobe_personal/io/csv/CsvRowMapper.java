@@ -0,0 +1,10 @@
+package cleancode.studycafe.tobe_personal.io.csv;
+
+@FunctionalInterface
+public interface CsvRowMapper<T> {
+
+    /**
+     * 한 줄의 값을 앞에서부터 차례로 읽어 객체를 만든다. 형식이 맞지 않으면 {@link CsvFormatException} 을 던진다.
+     */
+    T map(CsvRow row);
+}
@@ -5,17 +5,17 @@ public class StudyCafePass {
     private final StudyCafePassType passType;
     private final int duration;
     private final int price;
-    private final double discountRate;
+    private final int discountBasisPoints;
 
-    private StudyCafePass(StudyCafePassType passType, int duration, int price, double discountRate) {
+    private StudyCafePass(StudyCafePassType passType, int duration, int price, int discountBasisPoints) {
         this.passType = passType;
         this.duration = duration;
         this.price = price;
-        this.discountRate = discountRate;
+        this.discountBasisPoints = discountBasisPoints;
     }
 
-    public static StudyCafePass of(StudyCafePassType passType, int duration, int price, double discountRate) {
-        return new StudyCafePass(passType, duration, price, discountRate);
+    public static StudyCafePass of(StudyCafePassType passType, int duration, int price, int discountBasisPoints) {
+        return new StudyCafePass(passType, duration, price, discountBasisPoints);
     }
 
     public StudyCafePassType getPassType() {
@@ -30,8 +30,11 @@ public class StudyCafePass {
         return price;
     }
 
-    public double getDiscountRate() {
-        return discountRate;
+    /**
+     * 할인율을 basis point(0.01%) 단위 정수로 돌려준다. 10% 는 1000 이다.
+     */
+    public int getDiscountBasisPoints() {
+        return discountBasisPoints;
     }
 
     public String display() {
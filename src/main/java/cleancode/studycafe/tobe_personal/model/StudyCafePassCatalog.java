@@ -0,0 +1,85 @@
+package cleancode.studycafe.tobe_personal.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 이용권과 사물함 이용권을 한 번 읽어 두고 거래마다 공유하는 불변 목록.
+ * 이용권은 종류별로, 사물함 이용권은 (종류, 기간)으로 바로 찾는다.
+ */
+public class StudyCafePassCatalog {
+
+    private final Map<StudyCafePassType, List<StudyCafePass>> passesByType;
+    private final Map<StudyCafePassType, Map<Integer, StudyCafeLockerPass>> lockerPassesByType;
+
+    private StudyCafePassCatalog(
+        Map<StudyCafePassType, List<StudyCafePass>> passesByType,
+        Map<StudyCafePassType, Map<Integer, StudyCafeLockerPass>> lockerPassesByType
+    ) {
+        this.passesByType = passesByType;
+        this.lockerPassesByType = lockerPassesByType;
+    }
+
+    public static StudyCafePassCatalog of(List<StudyCafePass> passes, List<StudyCafeLockerPass> lockerPasses) {
+        Map<StudyCafePassType, List<StudyCafePass>> passesByType = new EnumMap<>(StudyCafePassType.class);
+        for (StudyCafePassType passType : StudyCafePassType.values()) {
+            passesByType.put(passType, new ArrayList<>());
+        }
+        for (StudyCafePass pass : passes) {
+            passesByType.get(pass.getPassType()).add(pass);
+        }
+        passesByType.replaceAll((passType, typedPasses) -> List.copyOf(typedPasses));
+
+        Map<StudyCafePassType, Map<Integer, StudyCafeLockerPass>> lockerPassesByType = new EnumMap<>(StudyCafePassType.class);
+        for (StudyCafeLockerPass lockerPass : lockerPasses) {
+            lockerPassesByType.computeIfAbsent(lockerPass.getPassType(), passType -> new HashMap<>())
+                .putIfAbsent(lockerPass.getDuration(), lockerPass);
+        }
+
+        return new StudyCafePassCatalog(
+            Collections.unmodifiableMap(passesByType),
+            Collections.unmodifiableMap(lockerPassesByType)
+        );
+    }
+
+    /**
+     * 이미 종류별로 나눠 둔 목록을 복사하지 않고 그대로 쓴다. 모든 종류의 목록이 있어야 하고, 넘긴 뒤에는 바뀌지 않아야 한다.
+     */
+    public static StudyCafePassCatalog ofIndexed(
+        Map<StudyCafePassType, List<StudyCafePass>> passesByType,
+        Map<StudyCafePassType, Map<Integer, StudyCafeLockerPass>> lockerPassesByType
+    ) {
+        return new StudyCafePassCatalog(
+            Collections.unmodifiableMap(passesByType),
+            Collections.unmodifiableMap(lockerPassesByType)
+        );
+    }
+
+    public List<StudyCafePass> findPassesBy(StudyCafePassType passType) {
+        return passesByType.get(passType);
+    }
+
+    public Optional<StudyCafePass> findPassBy(StudyCafePassType passType, int duration) {
+        List<StudyCafePass> passes = passesByType.get(passType);
+        for (int index = 0; index < passes.size(); index++) {
+            StudyCafePass pass = passes.get(index);
+            if (pass.getDuration() == duration) {
+                return Optional.of(pass);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Optional<StudyCafeLockerPass> findLockerPassFor(StudyCafePass pass) {
+        Map<Integer, StudyCafeLockerPass> lockerPassesByDuration = lockerPassesByType.get(pass.getPassType());
+        if (lockerPassesByDuration == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(lockerPassesByDuration.get(pass.getDuration()));
+    }
+}
@@ -0,0 +1,38 @@
+package cleancode.studycafe.tobe_personal.pricing;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafeLockerPass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+
+import java.util.Optional;
+
+public class PassOrder {
+
+    private final StudyCafePass pass;
+    private final StudyCafeLockerPass lockerPass;
+
+    private PassOrder(StudyCafePass pass, StudyCafeLockerPass lockerPass) {
+        this.pass = pass;
+        this.lockerPass = lockerPass;
+    }
+
+    public static PassOrder of(StudyCafePass pass) {
+        return new PassOrder(pass, null);
+    }
+
+    public static PassOrder of(StudyCafePass pass, StudyCafeLockerPass lockerPass) {
+        return new PassOrder(pass, lockerPass);
+    }
+
+    public StudyCafePass getPass() {
+        return pass;
+    }
+
+    public Optional<StudyCafeLockerPass> getLockerPass() {
+        return Optional.ofNullable(lockerPass);
+    }
+
+    int getLockerPrice() {
+        return lockerPass == null ? 0 : lockerPass.getPrice();
+    }
+
+}
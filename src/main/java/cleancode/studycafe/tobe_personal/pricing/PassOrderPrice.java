@@ -0,0 +1,64 @@
+package cleancode.studycafe.tobe_personal.pricing;
+
+public class PassOrderPrice {
+
+    private final int passPrice;
+    private final int discountPrice;
+    private final int lockerPrice;
+    private final long totalPrice;
+
+    private PassOrderPrice(int passPrice, int discountPrice, int lockerPrice, long totalPrice) {
+        this.passPrice = passPrice;
+        this.discountPrice = discountPrice;
+        this.lockerPrice = lockerPrice;
+        this.totalPrice = totalPrice;
+    }
+
+    /**
+     * 이용권 금액과 사물함 금액이 각각 int 범위 안이어도 더하면 넘칠 수 있으므로 결제 금액은 long 으로 계산한다.
+     */
+    public static PassOrderPrice of(int passPrice, int discountPrice, int lockerPrice) {
+        return new PassOrderPrice(passPrice, discountPrice, lockerPrice, (long) passPrice - discountPrice + lockerPrice);
+    }
+
+    public int getPassPrice() {
+        return passPrice;
+    }
+
+    public int getDiscountPrice() {
+        return discountPrice;
+    }
+
+    public int getLockerPrice() {
+        return lockerPrice;
+    }
+
+    public long getTotalPrice() {
+        return totalPrice;
+    }
+
+    public boolean hasDiscount() {
+        return discountPrice > 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PassOrderPrice that = (PassOrderPrice) o;
+        return passPrice == that.passPrice
+            && discountPrice == that.discountPrice
+            && lockerPrice == that.lockerPrice;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * passPrice + discountPrice) + lockerPrice;
+    }
+
+}
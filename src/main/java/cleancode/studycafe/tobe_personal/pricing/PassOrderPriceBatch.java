@@ -0,0 +1,57 @@
+package cleancode.studycafe.tobe_personal.pricing;
+
+/**
+ * 주문 묶음의 계산 결과. 주문마다 할인 / 사물함 / 결제 금액을 같은 순서의 배열에 담고, 묶음 전체의 합계를 함께 둔다.
+ * 합계는 주문이 많아도 넘치지 않도록 long 으로 더한다.
+ */
+public class PassOrderPriceBatch {
+
+    private final int[] passPrices;
+    private final int[] discountPrices;
+    private final int[] lockerPrices;
+
+    PassOrderPriceBatch(int orderCount) {
+        this.passPrices = new int[orderCount];
+        this.discountPrices = new int[orderCount];
+        this.lockerPrices = new int[orderCount];
+    }
+
+    void record(int index, int passPrice, int discountPrice, int lockerPrice) {
+        passPrices[index] = passPrice;
+        discountPrices[index] = discountPrice;
+        lockerPrices[index] = lockerPrice;
+    }
+
+    public int getOrderCount() {
+        return passPrices.length;
+    }
+
+    public PassOrderPrice getPriceAt(int index) {
+        return PassOrderPrice.of(passPrices[index], discountPrices[index], lockerPrices[index]);
+    }
+
+    public long getTotalPassPrice() {
+        return sum(passPrices);
+    }
+
+    public long getTotalDiscountPrice() {
+        return sum(discountPrices);
+    }
+
+    public long getTotalLockerPrice() {
+        return sum(lockerPrices);
+    }
+
+    public long getTotalPrice() {
+        return getTotalPassPrice() - getTotalDiscountPrice() + getTotalLockerPrice();
+    }
+
+    private static long sum(int[] prices) {
+        long total = 0;
+        for (int price : prices) {
+            total += price;
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,86 @@
+package cleancode.studycafe.tobe_personal.pricing;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 이용권 주문의 할인 금액, 사물함 추가 금액, 결제 금액을 정수로만 계산한다.
+ * 할인 금액은 이용권 가격 x 할인율(basis point) / 10000 에서 원 단위 미만을 버린다.
+ * 주문 묶음은 한 루프로 계산하거나, 구간으로 나눠 fork/join 으로 계산한다. 구간마다 자기 칸에만 쓰므로 결과는 같다.
+ */
+public class PassOrderPricingEngine {
+
+    private static final long BASIS_POINTS_PER_WHOLE = 10_000L;
+    private static final int MIN_ORDER_COUNT_TO_SPLIT = 8_192;
+
+    private final ForkJoinPool forkJoinPool;
+
+    public PassOrderPricingEngine(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    public static PassOrderPricingEngine ofCommonPool() {
+        return new PassOrderPricingEngine(ForkJoinPool.commonPool());
+    }
+
+    public PassOrderPrice price(PassOrder order) {
+        StudyCafePass pass = order.getPass();
+        return PassOrderPrice.of(pass.getPrice(), discountPriceOf(pass), order.getLockerPrice());
+    }
+
+    public PassOrderPriceBatch priceAll(List<PassOrder> orders) {
+        PassOrderPriceBatch batch = new PassOrderPriceBatch(orders.size());
+        priceRange(orders, 0, orders.size(), batch);
+        return batch;
+    }
+
+    public PassOrderPriceBatch priceAllInParallel(List<PassOrder> orders) {
+        PassOrderPriceBatch batch = new PassOrderPriceBatch(orders.size());
+        forkJoinPool.invoke(new OrderRangeTask(orders, 0, orders.size(), batch));
+        return batch;
+    }
+
+    private static void priceRange(List<PassOrder> orders, int fromIndex, int toIndex, PassOrderPriceBatch batch) {
+        for (int index = fromIndex; index < toIndex; index++) {
+            PassOrder order = orders.get(index);
+            StudyCafePass pass = order.getPass();
+            batch.record(index, pass.getPrice(), discountPriceOf(pass), order.getLockerPrice());
+        }
+    }
+
+    private static int discountPriceOf(StudyCafePass pass) {
+        return (int) ((long) pass.getPrice() * pass.getDiscountBasisPoints() / BASIS_POINTS_PER_WHOLE);
+    }
+
+    private static class OrderRangeTask extends RecursiveAction {
+
+        private final List<PassOrder> orders;
+        private final int fromIndex;
+        private final int toIndex;
+        private final PassOrderPriceBatch batch;
+
+        OrderRangeTask(List<PassOrder> orders, int fromIndex, int toIndex, PassOrderPriceBatch batch) {
+            this.orders = orders;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.batch = batch;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex <= MIN_ORDER_COUNT_TO_SPLIT) {
+                priceRange(orders, fromIndex, toIndex, batch);
+                return;
+            }
+            int middleIndex = (fromIndex + toIndex) >>> 1;
+            invokeAll(
+                new OrderRangeTask(orders, fromIndex, middleIndex, batch),
+                new OrderRangeTask(orders, middleIndex, toIndex, batch)
+            );
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package cleancode.studycafe.tobe_personal.server;
+
+import cleancode.studycafe.tobe_personal.pricing.PassOrder;
+import cleancode.studycafe.tobe_personal.pricing.PassOrderPrice;
+
+public class PassPurchase {
+
+    private final PassOrder order;
+    private final PassOrderPrice orderPrice;
+
+    private PassPurchase(PassOrder order, PassOrderPrice orderPrice) {
+        this.order = order;
+        this.orderPrice = orderPrice;
+    }
+
+    public static PassPurchase of(PassOrder order, PassOrderPrice orderPrice) {
+        return new PassPurchase(order, orderPrice);
+    }
+
+    public PassOrder getOrder() {
+        return order;
+    }
+
+    public PassOrderPrice getOrderPrice() {
+        return orderPrice;
+    }
+
+    public String display() {
+        StringBuilder receipt = new StringBuilder();
+        receipt.append("이용권: ").append(order.getPass().display()).append('\n');
+        order.getLockerPass()
+            .ifPresent(lockerPass -> receipt.append("사물함: ").append(lockerPass.display()).append('\n'));
+        if (orderPrice.hasDiscount()) {
+            receipt.append("이벤트 할인 금액: ").append(orderPrice.getDiscountPrice()).append("원\n");
+        }
+        receipt.append("총 결제 금액: ").append(orderPrice.getTotalPrice()).append("원\n");
+        return receipt.toString();
+    }
+
+}
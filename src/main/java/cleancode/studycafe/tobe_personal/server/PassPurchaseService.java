@@ -0,0 +1,48 @@
+package cleancode.studycafe.tobe_personal.server;
+
+import cleancode.studycafe.tobe_personal.exception.AppException;
+import cleancode.studycafe.tobe_personal.model.StudyCafeLockerPass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassCatalog;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+import cleancode.studycafe.tobe_personal.pricing.PassOrder;
+import cleancode.studycafe.tobe_personal.pricing.PassOrderPricingEngine;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 여러 키오스크의 이용권 구매를 동시에 처리한다. 공유하는 상태는 불변인 이용권 목록뿐이라 읽는 쪽에 잠금이 없다.
+ * 요청마다 목록을 한 번 받아 끝까지 쓰므로, 처리 도중 목록이 바뀌어도 한 구매 안에서는 일관된다.
+ */
+public class PassPurchaseService {
+
+    private final Supplier<StudyCafePassCatalog> passCatalogSupplier;
+    private final PassOrderPricingEngine pricingEngine;
+
+    public PassPurchaseService(Supplier<StudyCafePassCatalog> passCatalogSupplier, PassOrderPricingEngine pricingEngine) {
+        this.passCatalogSupplier = passCatalogSupplier;
+        this.pricingEngine = pricingEngine;
+    }
+
+    public List<StudyCafePass> findPassesBy(StudyCafePassType passType) {
+        return passCatalogSupplier.get().findPassesBy(passType);
+    }
+
+    public PassPurchase purchase(StudyCafePassType passType, int duration, boolean withLockerPass) {
+        StudyCafePassCatalog passCatalog = passCatalogSupplier.get();
+        StudyCafePass pass = passCatalog.findPassBy(passType, duration)
+            .orElseThrow(() -> new AppException("존재하지 않는 이용권입니다."));
+
+        PassOrder order = withLockerPass
+            ? PassOrder.of(pass, findLockerPassFor(passCatalog, pass))
+            : PassOrder.of(pass);
+        return PassPurchase.of(order, pricingEngine.price(order));
+    }
+
+    private StudyCafeLockerPass findLockerPassFor(StudyCafePassCatalog passCatalog, StudyCafePass pass) {
+        return passCatalog.findLockerPassFor(pass)
+            .orElseThrow(() -> new AppException("사물함을 함께 이용할 수 없는 이용권입니다."));
+    }
+
+}
@@ -0,0 +1,143 @@
+package cleancode.studycafe.tobe_personal.server;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 키오스크가 동시에 이용권을 구매하며 서버의 처리량과 응답 시간을 잰다.
+ * 시작할 때 이용권 목록을 한 번 받아 두고, 키오스크마다 그 안에서 무작위로 골라 구매한다. 고정석은 절반쯤 사물함을 함께 산다.
+ * 사용법: PurchaseLoadTestClient [baseUri] [키오스크 수] [키오스크당 구매 수]
+ */
+public class PurchaseLoadTestClient {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String baseUri = args.length > 0 ? args[0] : "http://localhost:8090";
+        int kioskCount = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int purchasesPerKiosk = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        List<String> passQueries = fetchPassQueries(httpClient, baseUri);
+        if (passQueries.isEmpty()) {
+            throw new IllegalStateException("구매할 수 있는 이용권이 없습니다.");
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(kioskCount, 512));
+        SplittableRandom seedRandom = new SplittableRandom(20240101L);
+        LongAdder failureCount = new LongAdder();
+
+        long startNanos = System.nanoTime();
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int i = 0; i < kioskCount; i++) {
+            SplittableRandom random = seedRandom.split();
+            futures.add(executorService.submit(() ->
+                runKiosk(httpClient, baseUri, passQueries, purchasesPerKiosk, random, failureCount)
+            ));
+        }
+
+        long[] latencies = collectLatencies(futures);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executorService.shutdown();
+
+        Arrays.sort(latencies);
+        System.out.printf(
+            "키오스크 %d대, 구매 %d건(실패 %d건), 초당 %.1f건, p50 %.2fms, p99 %.2fms%n",
+            kioskCount, latencies.length, failureCount.sum(),
+            latencies.length * NANOS_PER_SECOND / elapsedNanos,
+            percentile(latencies, 0.50) / NANOS_PER_MILLI,
+            percentile(latencies, 0.99) / NANOS_PER_MILLI
+        );
+    }
+
+    private static List<String> fetchPassQueries(HttpClient httpClient, String baseUri) throws IOException, InterruptedException {
+        List<String> passQueries = new ArrayList<>();
+        for (StudyCafePassType passType : StudyCafePassType.values()) {
+            HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUri + "/passes?type=" + passType.name())).GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+            );
+            for (String line : response.body().split("\n")) {
+                String[] values = line.split(",");
+                if (values.length < 2) {
+                    continue;
+                }
+                passQueries.add("type=" + values[0] + "&duration=" + values[1]);
+            }
+        }
+        return passQueries;
+    }
+
+    private static long[] runKiosk(
+        HttpClient httpClient,
+        String baseUri,
+        List<String> passQueries,
+        int purchasesPerKiosk,
+        SplittableRandom random,
+        LongAdder failureCount
+    ) throws IOException, InterruptedException {
+        long[] latencies = new long[purchasesPerKiosk];
+        for (int purchase = 0; purchase < purchasesPerKiosk; purchase++) {
+            String passQuery = passQueries.get(random.nextInt(passQueries.size()));
+            boolean withLockerPass = passQuery.startsWith("type=" + StudyCafePassType.FIXED.name()) && random.nextBoolean();
+
+            long startNanos = System.nanoTime();
+            HttpResponse<Void> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUri + "/purchases?" + passQuery + "&locker=" + withLockerPass))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build(),
+                HttpResponse.BodyHandlers.discarding()
+            );
+            latencies[purchase] = System.nanoTime() - startNanos;
+            if (response.statusCode() != 200) {
+                failureCount.increment();
+            }
+        }
+        return latencies;
+    }
+
+    private static long[] collectLatencies(List<Future<long[]>> futures) throws InterruptedException {
+        List<long[]> results = new ArrayList<>();
+        int totalCount = 0;
+        for (Future<long[]> future : futures) {
+            try {
+                long[] latencies = future.get();
+                results.add(latencies);
+                totalCount += latencies.length;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("부하 테스트 중 오류가 발생했습니다.", e.getCause());
+            }
+        }
+
+        long[] merged = new long[totalCount];
+        int offset = 0;
+        for (long[] latencies : results) {
+            System.arraycopy(latencies, 0, merged, offset, latencies.length);
+            offset += latencies.length;
+        }
+        return merged;
+    }
+
+    private static long percentile(long[] sortedLatencies, double ratio) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(ratio * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)];
+    }
+}
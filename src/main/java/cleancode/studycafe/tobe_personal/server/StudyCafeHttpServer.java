@@ -0,0 +1,153 @@
+package cleancode.studycafe.tobe_personal.server;
+
+import cleancode.studycafe.tobe_personal.exception.AppException;
+import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 여러 키오스크의 이용권 조회와 구매를 HTTP 로 받는다.
+ * <pre>
+ * GET  /passes?type=FIXED                          이용권 목록 (한 줄에 종류,기간,가격,할인율 basis point)
+ * POST /purchases?type=FIXED&duration=12[&locker=true]   구매 (응답 본문은 이용 내역)
+ * </pre>
+ */
+public class StudyCafeHttpServer implements AutoCloseable {
+
+    private static final String PASSES_PATH = "/passes";
+    private static final String PURCHASES_PATH = "/purchases";
+
+    private final HttpServer httpServer;
+    private final PassPurchaseService passPurchaseService;
+
+    public StudyCafeHttpServer(InetSocketAddress address, ExecutorService executorService, PassPurchaseService passPurchaseService) {
+        try {
+            this.httpServer = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버를 열 수 없습니다.", e);
+        }
+        this.passPurchaseService = passPurchaseService;
+        httpServer.setExecutor(executorService);
+        httpServer.createContext(PASSES_PATH, exchange -> handle(exchange, PASSES_PATH, "GET", this::showPasses));
+        httpServer.createContext(PURCHASES_PATH, exchange -> handle(exchange, PURCHASES_PATH, "POST", this::purchase));
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+    }
+
+    /**
+     * 컨텍스트는 경로 앞부분만 맞으면 요청을 넘겨주므로(/passes/x, /passesx) 경로가 정확히 같은지 다시 확인한다.
+     */
+    private void handle(HttpExchange exchange, String path, String allowedMethod, RequestHandler requestHandler) throws IOException {
+        try (exchange) {
+            if (!path.equals(exchange.getRequestURI().getPath())) {
+                respond(exchange, 404, "존재하지 않는 경로입니다.\n");
+                return;
+            }
+            if (!allowedMethod.equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, "지원하지 않는 요청입니다.\n");
+                return;
+            }
+            handleQueries(exchange, requestHandler);
+        }
+    }
+
+    private void handleQueries(HttpExchange exchange, RequestHandler requestHandler) throws IOException {
+        try {
+            requestHandler.handle(exchange, parseQueries(exchange.getRequestURI().getRawQuery()));
+        } catch (AppException e) {
+            respond(exchange, 400, e.getMessage() + "\n");
+        } catch (RuntimeException e) {
+            respond(exchange, 500, "서버에서 요청을 처리하지 못했습니다.\n");
+        }
+    }
+
+    private void showPasses(HttpExchange exchange, Map<String, String> queries) throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (StudyCafePass pass : passPurchaseService.findPassesBy(parsePassType(queries))) {
+            body.append(pass.getPassType()).append(',')
+                .append(pass.getDuration()).append(',')
+                .append(pass.getPrice()).append(',')
+                .append(pass.getDiscountBasisPoints()).append('\n');
+        }
+        respond(exchange, 200, body.toString());
+    }
+
+    private void purchase(HttpExchange exchange, Map<String, String> queries) throws IOException {
+        PassPurchase passPurchase = passPurchaseService.purchase(
+            parsePassType(queries),
+            parseDuration(queries),
+            Boolean.parseBoolean(queries.get("locker"))
+        );
+        respond(exchange, 200, passPurchase.display());
+    }
+
+    private StudyCafePassType parsePassType(Map<String, String> queries) {
+        String passType = queries.getOrDefault("type", "");
+        try {
+            return StudyCafePassType.valueOf(passType);
+        } catch (IllegalArgumentException e) {
+            throw new AppException("잘못된 이용권 종류입니다: " + passType);
+        }
+    }
+
+    private int parseDuration(Map<String, String> queries) {
+        try {
+            return Integer.parseInt(queries.getOrDefault("duration", ""));
+        } catch (NumberFormatException e) {
+            throw new AppException("이용 기간은 숫자여야 합니다.");
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    private Map<String, String> parseQueries(String rawQuery) {
+        Map<String, String> queries = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return queries;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separatorIndex = pair.indexOf('=');
+            if (separatorIndex < 0) {
+                continue;
+            }
+            String key = URLDecoder.decode(pair.substring(0, separatorIndex), StandardCharsets.UTF_8);
+            String value = URLDecoder.decode(pair.substring(separatorIndex + 1), StandardCharsets.UTF_8);
+            queries.put(key, value);
+        }
+        return queries;
+    }
+
+    @FunctionalInterface
+    private interface RequestHandler {
+        void handle(HttpExchange exchange, Map<String, String> queries) throws IOException;
+    }
+}
@@ -0,0 +1,33 @@
+package cleancode.studycafe.tobe_personal.server;
+
+import cleancode.studycafe.tobe_personal.io.StudyCafeFileHandler;
+import cleancode.studycafe.tobe_personal.io.StudyCafePassCatalogService;
+import cleancode.studycafe.tobe_personal.pricing.PassOrderPricingEngine;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class StudyCafeServerApplication {
+
+    private static final int DEFAULT_PORT = 8090;
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        StudyCafePassCatalogService passCatalogService = new StudyCafePassCatalogService(new StudyCafeFileHandler());
+        PassPurchaseService passPurchaseService = new PassPurchaseService(passCatalogService::getCatalog, PassOrderPricingEngine.ofCommonPool());
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        StudyCafeHttpServer server = new StudyCafeHttpServer(new InetSocketAddress(port), executorService, passPurchaseService);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            executorService.shutdown();
+            passCatalogService.close();
+        }));
+
+        passCatalogService.start();
+        server.start();
+        System.out.println("스터디카페 서버가 " + server.getPort() + " 포트에서 시작되었습니다.");
+    }
+}
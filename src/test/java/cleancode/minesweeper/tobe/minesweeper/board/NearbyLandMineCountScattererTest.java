@@ -0,0 +1,108 @@
+package cleancode.minesweeper.tobe.minesweeper.board;
+
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.board.position.SurroundedIndexes;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorage;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.BoardStorageFactory;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.ObjectBoardStorage;
+import cleancode.minesweeper.tobe.minesweeper.board.storage.PackedBoardStorage;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomLevel;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearbyLandMineCountScattererTest {
+
+    private static final int ROW_SIZE = 12;
+    private static final int COL_SIZE = 17;
+
+    private final SurroundedIndexes surroundedIndexes = SurroundedIndexes.of(ROW_SIZE, COL_SIZE);
+
+    @Test
+    void 지뢰를_놓고_치우고_옮겨도_다시_센_주변_지뢰_수와_같다() {
+        for (BoardStorageFactory boardStorageFactory : List.<BoardStorageFactory>of(PackedBoardStorage::of, ObjectBoardStorage::of)) {
+            // given
+            BoardStorage boardStorage = boardStorageFactory.create(ROW_SIZE, COL_SIZE);
+            boardStorage.clear();
+            NearbyLandMineCountScatterer scatterer = new NearbyLandMineCountScatterer(boardStorage, surroundedIndexes);
+            SplittableRandom random = new SplittableRandom(19);
+            int cellCount = boardStorage.getCellCount();
+
+            for (int step = 0; step < 500; step++) {
+                // when
+                int index = random.nextInt(cellCount);
+                switch (random.nextInt(3)) {
+                    case 0 -> scatterer.addLandMineAt(index);
+                    case 1 -> scatterer.removeLandMineAt(index);
+                    default -> scatterer.relocateLandMine(index, random.nextInt(cellCount));
+                }
+
+                // then
+                assertSameAsRecount(boardStorage);
+            }
+        }
+    }
+
+    @Test
+    void 첫_번째로_연_칸이_지뢰면_옮긴_뒤에도_주변_지뢰_수가_맞다() {
+        // given
+        CustomLevel level = CustomLevel.of(ROW_SIZE, COL_SIZE, 60);
+        GameBoard gameBoard = new GameBoard(level, 23L);
+        gameBoard.initializeGame();
+        BoardStorage before = cellsOf(gameBoard);
+        int firstLandMineIndex = 0;
+        while (!before.isLandMineAt(firstLandMineIndex)) {
+            firstLandMineIndex++;
+        }
+
+        // when
+        gameBoard.openAt(CellPosition.ofIndex(firstLandMineIndex, COL_SIZE));
+
+        // then
+        BoardStorage after = cellsOf(gameBoard);
+        assertThat(gameBoard.isLoseStatus()).isFalse();
+        assertThat(after.isLandMineAt(firstLandMineIndex)).isFalse();
+        assertThat(landMineCountOf(after)).isEqualTo(level.getLandMineCount());
+        assertSameAsRecount(after);
+    }
+
+    private void assertSameAsRecount(BoardStorage boardStorage) {
+        BoardStorage recounted = PackedBoardStorage.of(ROW_SIZE, COL_SIZE);
+        for (int index = 0; index < boardStorage.getCellCount(); index++) {
+            if (boardStorage.isLandMineAt(index)) {
+                recounted.placeLandMineAt(index);
+            }
+        }
+        new SequentialNearbyLandMineCounter().countAll(recounted, surroundedIndexes);
+
+        for (int index = 0; index < boardStorage.getCellCount(); index++) {
+            assertThat(boardStorage.isLandMineAt(index)).isEqualTo(recounted.isLandMineAt(index));
+            if (!boardStorage.isLandMineAt(index)) {
+                assertThat(boardStorage.getNearbyLandMineCountAt(index)).isEqualTo(recounted.getNearbyLandMineCountAt(index));
+            }
+        }
+    }
+
+    private BoardStorage cellsOf(GameBoard gameBoard) {
+        ByteBuffer cells = ByteBuffer.allocate(gameBoard.getCellCount());
+        gameBoard.exportCellsTo(cells);
+
+        BoardStorage boardStorage = PackedBoardStorage.of(ROW_SIZE, COL_SIZE);
+        boardStorage.importCellsFrom(cells.flip());
+        return boardStorage;
+    }
+
+    private int landMineCountOf(BoardStorage boardStorage) {
+        int count = 0;
+        for (int index = 0; index < boardStorage.getCellCount(); index++) {
+            if (boardStorage.isLandMineAt(index)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
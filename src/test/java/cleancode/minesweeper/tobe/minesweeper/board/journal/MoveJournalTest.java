@@ -0,0 +1,100 @@
+package cleancode.minesweeper.tobe.minesweeper.board.journal;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomLevel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoveJournalTest {
+
+    private static final CustomLevel LEVEL = CustomLevel.of(16, 16, 20);
+    private static final long BOARD_SEED = 7L;
+    private static final int MOVE_COUNT = 40;
+    private static final int BATCH_SIZE = 8;
+
+    private final MoveJournalReplayer replayer = new MoveJournalReplayer();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 저널을_다시_두면_기록한_보드와_셀이_같다() {
+        // given
+        Path journalPath = tempDir.resolve("game.journal");
+        GameBoard gameBoard = newBoard();
+        int playedMoveCount;
+        try (MoveJournal moveJournal = MoveJournal.start(journalPath, gameBoard, BATCH_SIZE)) {
+            playedMoveCount = play(gameBoard, MOVE_COUNT);
+        }
+
+        // when
+        GameBoard replayed = replayer.replay(journalPath);
+
+        // then
+        assertThat(playedMoveCount % BATCH_SIZE).isNotEqualTo(0);
+        assertThat(replayed.getGameStatus()).isEqualTo(gameBoard.getGameStatus());
+        assertThat(cellsOf(replayed)).isEqualTo(cellsOf(gameBoard));
+    }
+
+    @Test
+    void 마지막_기록이_잘려도_그_앞까지만_다시_둔다() throws IOException {
+        // given
+        Path journalPath = tempDir.resolve("game.journal");
+        GameBoard gameBoard = newBoard();
+        int playedMoveCount;
+        try (MoveJournal moveJournal = MoveJournal.start(journalPath, gameBoard, BATCH_SIZE)) {
+            playedMoveCount = play(gameBoard, MOVE_COUNT);
+        }
+        ByteBuffer truncated = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        truncated.limit(truncated.limit() - MoveJournalFormat.RECORD_SIZE / 2);
+
+        GameBoard expected = newBoard();
+        play(expected, playedMoveCount - 1);
+
+        // when
+        GameBoard replayed = replayer.replay(truncated);
+
+        // then
+        assertThat(replayed.getGameStatus()).isEqualTo(expected.getGameStatus());
+        assertThat(cellsOf(replayed)).isEqualTo(cellsOf(expected));
+    }
+
+    private GameBoard newBoard() {
+        GameBoard gameBoard = new GameBoard(LEVEL, BOARD_SEED);
+        gameBoard.initializeGame();
+        return gameBoard;
+    }
+
+    /**
+     * 고정된 시드로 고른 칸을 열거나 깃발을 꽂는다. 게임이 끝나면 멈추고 둔 수를 돌려준다.
+     */
+    private int play(GameBoard gameBoard, int moveCount) {
+        SplittableRandom random = new SplittableRandom(BOARD_SEED);
+        int playedMoveCount = 0;
+        while (playedMoveCount < moveCount && gameBoard.isInProgress()) {
+            CellPosition cellPosition = CellPosition.of(random.nextInt(LEVEL.getRowSize()), random.nextInt(LEVEL.getColSize()));
+            if (random.nextInt(5) == 0) {
+                gameBoard.flagAt(cellPosition);
+            } else {
+                gameBoard.openAt(cellPosition);
+            }
+            playedMoveCount++;
+        }
+        return playedMoveCount;
+    }
+
+    private ByteBuffer cellsOf(GameBoard gameBoard) {
+        ByteBuffer cells = ByteBuffer.allocate(gameBoard.getCellCount());
+        gameBoard.exportCellsTo(cells);
+        return cells.flip();
+    }
+}
@@ -0,0 +1,91 @@
+package cleancode.minesweeper.tobe.minesweeper.board.save;
+
+import cleancode.minesweeper.tobe.minesweeper.board.GameBoard;
+import cleancode.minesweeper.tobe.minesweeper.board.position.CellPosition;
+import cleancode.minesweeper.tobe.minesweeper.gamelevel.CustomLevel;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameBoardSaveFormatTest {
+
+    private static final int LAND_MINE_COUNT_OFFSET = 16;
+
+    @Test
+    void 저장한_보드를_읽으면_셀과_상태가_그대로다() {
+        // given
+        GameBoard gameBoard = playedBoard();
+        ByteBuffer saved = save(gameBoard);
+
+        // when
+        GameBoard restored = GameBoardSaveFormat.read(saved);
+
+        // then
+        assertThat(saved.remaining()).isEqualTo(0);
+        assertThat(restored.getRowSize()).isEqualTo(gameBoard.getRowSize());
+        assertThat(restored.getColSize()).isEqualTo(gameBoard.getColSize());
+        assertThat(restored.getLandMineCount()).isEqualTo(gameBoard.getLandMineCount());
+        assertThat(restored.getSeed()).isEqualTo(gameBoard.getSeed());
+        assertThat(restored.getGameStatus()).isEqualTo(gameBoard.getGameStatus());
+        assertThat(cellsOf(restored)).isEqualTo(cellsOf(gameBoard));
+    }
+
+    @Test
+    void 매직_넘버나_버전이_다르면_읽지_않는다() {
+        // given
+        ByteBuffer wrongMagic = save(playedBoard());
+        wrongMagic.putInt(0, 0);
+        ByteBuffer otherVersion = save(playedBoard());
+        otherVersion.putShort(4, (short) 2);
+
+        // when, then
+        assertThatThrownBy(() -> GameBoardSaveFormat.read(wrongMagic))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("지뢰찾기 저장 파일이 아닙니다.");
+        assertThatThrownBy(() -> GameBoardSaveFormat.read(otherVersion))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("지원하지 않는 저장 파일 버전입니다: 2");
+    }
+
+    @Test
+    void 지뢰_수가_음수이거나_칸_수보다_많으면_손상된_파일로_본다() {
+        // given
+        ByteBuffer negativeLandMineCount = save(playedBoard());
+        negativeLandMineCount.putInt(LAND_MINE_COUNT_OFFSET, -1);
+        ByteBuffer tooManyLandMines = save(playedBoard());
+        tooManyLandMines.putInt(LAND_MINE_COUNT_OFFSET, 8 * 10 + 1);
+        ByteBuffer truncatedCells = save(playedBoard());
+        truncatedCells.limit(truncatedCells.limit() - 1);
+
+        // when, then
+        for (ByteBuffer corrupted : List.of(negativeLandMineCount, tooManyLandMines, truncatedCells)) {
+            assertThatThrownBy(() -> GameBoardSaveFormat.read(corrupted))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("저장 파일이 손상되었습니다.");
+        }
+    }
+
+    private GameBoard playedBoard() {
+        GameBoard gameBoard = new GameBoard(CustomLevel.of(8, 10, 15), 42L);
+        gameBoard.initializeGame();
+        gameBoard.openAt(CellPosition.of(3, 4));
+        gameBoard.flagAt(CellPosition.of(7, 9));
+        return gameBoard;
+    }
+
+    private ByteBuffer save(GameBoard gameBoard) {
+        ByteBuffer saved = ByteBuffer.allocate(GameBoardSaveFormat.sizeOf(gameBoard));
+        GameBoardSaveFormat.write(gameBoard, saved);
+        return saved.flip();
+    }
+
+    private ByteBuffer cellsOf(GameBoard gameBoard) {
+        ByteBuffer cells = ByteBuffer.allocate(gameBoard.getCellCount());
+        gameBoard.exportCellsTo(cells);
+        return cells.flip();
+    }
+}
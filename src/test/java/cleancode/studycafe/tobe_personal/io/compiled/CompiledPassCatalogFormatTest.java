@@ -0,0 +1,143 @@
+package cleancode.studycafe.tobe_personal.io.compiled;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafeLockerPass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassCatalog;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompiledPassCatalogFormatTest {
+
+    @Test
+    void 인코딩한_목록을_읽으면_종류별로_CSV_순서가_유지된다() {
+        // given
+        List<StudyCafePass> passes = List.of(
+            StudyCafePass.of(StudyCafePassType.HOURLY, 4, 6500, 0),
+            StudyCafePass.of(StudyCafePassType.FIXED, 4, 250000, 1000),
+            StudyCafePass.of(StudyCafePassType.HOURLY, 2, 4000, 0),
+            StudyCafePass.of(StudyCafePassType.FIXED, 12, 700000, 1500)
+        );
+
+        // when
+        StudyCafePassCatalog catalog = CompiledPassCatalogFormat.read(CompiledPassCatalogFormat.encode(passes, List.of()));
+
+        // then
+        assertThat(displayAll(catalog.findPassesBy(StudyCafePassType.HOURLY))).containsExactly("HOURLY,4,6500,0", "HOURLY,2,4000,0");
+        assertThat(displayAll(catalog.findPassesBy(StudyCafePassType.FIXED))).containsExactly("FIXED,4,250000,1000", "FIXED,12,700000,1500");
+        assertThat(catalog.findPassesBy(StudyCafePassType.WEEKLY)).isEmpty();
+    }
+
+    @Test
+    void 사물함_이용권은_기간으로_찾고_같은_기간은_처음_것만_남는다() {
+        // given
+        StudyCafePass fixedPass = StudyCafePass.of(StudyCafePassType.FIXED, 4, 250000, 1000);
+        List<StudyCafeLockerPass> lockerPasses = List.of(
+            StudyCafeLockerPass.of(StudyCafePassType.FIXED, 12, 30000),
+            StudyCafeLockerPass.of(StudyCafePassType.FIXED, 4, 10000),
+            StudyCafeLockerPass.of(StudyCafePassType.FIXED, 4, 99999)
+        );
+
+        // when
+        StudyCafePassCatalog catalog = CompiledPassCatalogFormat.read(CompiledPassCatalogFormat.encode(List.of(fixedPass), lockerPasses));
+
+        // then
+        assertThat(catalog.findLockerPassFor(fixedPass).map(StudyCafeLockerPass::getPrice).orElseThrow()).isEqualTo(10000);
+        assertThat(catalog.findLockerPassFor(StudyCafePass.of(StudyCafePassType.FIXED, 8, 0, 0))).isEmpty();
+        assertThat(catalog.findLockerPassFor(StudyCafePass.of(StudyCafePassType.HOURLY, 4, 0, 0))).isEmpty();
+    }
+
+    @Test
+    void 할인율이_basis_point_범위를_벗어나면_인코딩하지_않는다() {
+        // given
+        List<StudyCafePass> passes = List.of(StudyCafePass.of(StudyCafePassType.WEEKLY, 1, 60000, 10_001));
+
+        // when, then
+        assertThatThrownBy(() -> CompiledPassCatalogFormat.encode(passes, List.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("10001");
+    }
+
+    @Test
+    void 매직_넘버가_다르거나_헤더보다_짧으면_읽지_않는다() {
+        // given
+        ByteBuffer wrongMagic = encodeSample();
+        wrongMagic.putInt(0, 0);
+
+        // when, then
+        assertThatThrownBy(() -> CompiledPassCatalogFormat.read(wrongMagic))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("컴파일된 이용권 목록 파일이 아닙니다.");
+        assertThatThrownBy(() -> CompiledPassCatalogFormat.read(ByteBuffer.allocate(8)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("컴파일된 이용권 목록 파일이 아닙니다.");
+    }
+
+    @Test
+    void 버전이나_이용권_종류_수가_다르면_읽지_않는다() {
+        // given
+        ByteBuffer otherVersion = encodeSample();
+        otherVersion.putShort(4, (short) 2);
+        ByteBuffer otherTypeCount = encodeSample();
+        otherTypeCount.putShort(6, (short) (StudyCafePassType.values().length + 1));
+
+        // when, then
+        assertThatThrownBy(() -> CompiledPassCatalogFormat.read(otherVersion))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("지원하지 않는 이용권 목록 버전입니다: 2");
+        assertThatThrownBy(() -> CompiledPassCatalogFormat.read(otherTypeCount))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("다시 컴파일");
+    }
+
+    @Test
+    void 레코드가_잘렸거나_개수와_색인이_어긋나면_손상된_파일로_본다() {
+        // given
+        ByteBuffer truncated = encodeSample();
+        truncated.limit(truncated.limit() - 1);
+        ByteBuffer negativeCount = encodeSample();
+        negativeCount.putInt(8, -1);
+        ByteBuffer indexOutOfRange = encodeSample();
+        indexOutOfRange.putInt(16, 100);
+
+        // when, then
+        for (ByteBuffer corrupted : List.of(truncated, negativeCount, indexOutOfRange)) {
+            assertThatThrownBy(() -> CompiledPassCatalogFormat.read(corrupted))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이용권 목록 파일이 손상되었습니다.");
+        }
+    }
+
+    @Test
+    void 버퍼의_현재_위치부터_읽는다() {
+        // given
+        ByteBuffer encoded = encodeSample();
+        ByteBuffer shifted = ByteBuffer.allocate(encoded.remaining() + 3);
+        shifted.position(3);
+        shifted.put(encoded).position(3);
+
+        // when
+        StudyCafePassCatalog catalog = CompiledPassCatalogFormat.read(shifted);
+
+        // then
+        assertThat(displayAll(catalog.findPassesBy(StudyCafePassType.WEEKLY))).containsExactly("WEEKLY,1,60000,0");
+    }
+
+    private ByteBuffer encodeSample() {
+        return CompiledPassCatalogFormat.encode(
+            List.of(StudyCafePass.of(StudyCafePassType.WEEKLY, 1, 60000, 0)),
+            List.of(StudyCafeLockerPass.of(StudyCafePassType.FIXED, 4, 10000))
+        );
+    }
+
+    private List<String> displayAll(List<StudyCafePass> passes) {
+        return passes.stream()
+            .map(pass -> pass.getPassType() + "," + pass.getDuration() + "," + pass.getPrice() + "," + pass.getDiscountBasisPoints())
+            .toList();
+    }
+}
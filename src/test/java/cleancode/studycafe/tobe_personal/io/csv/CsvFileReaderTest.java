@@ -0,0 +1,104 @@
+package cleancode.studycafe.tobe_personal.io.csv;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvFileReaderTest {
+
+    private static final CsvEnumField<StudyCafePassType> PASS_TYPE_FIELD = CsvEnumField.of(StudyCafePassType.class);
+
+    private final CsvFileReader csvReader = new CsvFileReader();
+
+    @Test
+    void BOM_과_CRLF_와_빈_줄을_건너뛰고_읽는다() {
+        // given
+        String csv = "\uFEFFHOURLY,2,4000\r\n\r\n  \nFIXED,4,250000\r\n";
+
+        // when
+        CsvReadResult<String> result = read(csv, row -> row.nextEnum(PASS_TYPE_FIELD) + ":" + row.nextInt() + ":" + row.nextInt());
+
+        // then
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getRows()).containsExactly("HOURLY:2:4000", "FIXED:4:250000");
+    }
+
+    @Test
+    void 잘못된_줄은_줄_번호와_함께_모으고_다음_줄을_읽는다() {
+        // given
+        String csv = "1\nx\n\n3,4\n5";
+
+        // when
+        CsvReadResult<Integer> result = read(csv, CsvRow::nextInt);
+
+        // then
+        assertThat(result.getRows()).containsExactly(1, 5);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.getErrors().get(0).display()).isEqualTo("2번째 줄: 1번째 값: 정수가 아닙니다.");
+        assertThat(result.getErrors().get(1).display()).isEqualTo("4번째 줄: 2번째 값: 값이 너무 많습니다.");
+    }
+
+    @Test
+    void 정수는_int_범위를_넘으면_오류다() {
+        // when
+        CsvReadResult<Integer> result = read("2147483647\n-2147483648\n2147483648\n-2147483649\n99999999999999999999", CsvRow::nextInt);
+
+        // then
+        assertThat(result.getRows()).containsExactly(Integer.MAX_VALUE, Integer.MIN_VALUE);
+        assertThat(result.getErrors()).hasSize(3);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("1번째 값: 숫자가 너무 큽니다.");
+    }
+
+    @Test
+    void 소수는_지정한_자리수만큼_곱한_정수로_정확하게_읽는다() {
+        // when
+        CsvReadResult<Integer> result = read("0.15\n0.1\n1\n.5\n1.\n0.12340\n 0.29 ", row -> row.nextFixedPoint(4));
+
+        // then
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getRows()).containsExactly(1500, 1000, 10000, 5000, 10000, 1234, 2900);
+    }
+
+    @Test
+    void 소수점_아래_자리수를_넘는_0_아닌_숫자는_오류다() {
+        // when
+        CsvReadResult<Integer> result = read("0.12345\n.\n214748.3648", row -> row.nextFixedPoint(4));
+
+        // then
+        assertThat(result.getRows()).isEmpty();
+        assertThat(result.getErrors()).hasSize(3);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("1번째 값: 소수점 아래 4자리까지만 쓸 수 있습니다.");
+        assertThat(result.getErrors().get(1).getMessage()).isEqualTo("1번째 값: 숫자가 아닙니다.");
+        assertThat(result.getErrors().get(2).getMessage()).isEqualTo("1번째 값: 숫자가 너무 큽니다.");
+    }
+
+    @Test
+    void 범위를_벗어난_값은_파일에_쓰는_형태로_알린다() {
+        // when
+        CsvReadResult<Integer> result = read("0\n1.5\n-0.1\n1", row -> row.nextFixedPointBetween(4, 0, 10_000));
+
+        // then
+        assertThat(result.getRows()).containsExactly(0, 10_000);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("1번째 값: 0 이상 1 이하여야 합니다.");
+    }
+
+    @Test
+    void 최솟값보다_작은_정수는_오류다() {
+        // when
+        CsvReadResult<Integer> result = read("1\n0\n-3", row -> row.nextIntAtLeast(1));
+
+        // then
+        assertThat(result.getRows()).containsExactly(1);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("1번째 값: 1 이상이어야 합니다.");
+    }
+
+    private <T> CsvReadResult<T> read(String csv, CsvRowMapper<T> rowMapper) {
+        return csvReader.read(ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8)), rowMapper);
+    }
+}
@@ -0,0 +1,114 @@
+package cleancode.studycafe.tobe_personal.pricing;
+
+import cleancode.studycafe.tobe_personal.model.StudyCafeLockerPass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePass;
+import cleancode.studycafe.tobe_personal.model.StudyCafePassType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PassOrderPricingEngineTest {
+
+    private final PassOrderPricingEngine pricingEngine = new PassOrderPricingEngine(new ForkJoinPool(2));
+
+    @Test
+    void 판매_중인_이용권의_할인_금액은_double_할인율로_계산하던_값과_같다() {
+        // given
+        int[] prices = {100000, 130000, 150000, 400000, 250000, 700000, 1999};
+        double[] discountRates = {0.1, 0.1, 0.1, 0.15, 0.1, 0.15, 0.15};
+        int[] discountBasisPoints = {1000, 1000, 1000, 1500, 1000, 1500, 1500};
+
+        for (int i = 0; i < prices.length; i++) {
+            // when
+            PassOrderPrice price = priceOf(prices[i], discountBasisPoints[i]);
+
+            // then
+            assertThat(price.getDiscountPrice()).isEqualTo((int) (prices[i] * discountRates[i]));
+        }
+    }
+
+    @Test
+    void 할인_금액은_원_단위_미만을_버리고_double_오차로_1원_덜_깎이지_않는다() {
+        // when
+        PassOrderPrice truncated = priceOf(1999, 1500);
+        PassOrderPrice exact = priceOf(100, 2900);
+
+        // then
+        assertThat(truncated.getDiscountPrice()).isEqualTo(299);
+        assertThat((int) (100 * 0.29)).isEqualTo(28);
+        assertThat(exact.getDiscountPrice()).isEqualTo(29);
+    }
+
+    @Test
+    void 큰_가격도_int_곱셈처럼_넘치지_않는다() {
+        // when
+        PassOrderPrice price = priceOf(2_000_000_000, 1500);
+        PassOrderPrice fullDiscount = priceOf(Integer.MAX_VALUE, 10_000);
+
+        // then
+        assertThat(price.getDiscountPrice()).isEqualTo(300_000_000);
+        assertThat(fullDiscount.getDiscountPrice()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(fullDiscount.getTotalPrice()).isEqualTo(0);
+    }
+
+    @Test
+    void 결제_금액은_할인을_빼고_사물함_금액을_더한다() {
+        // given
+        StudyCafePass pass = StudyCafePass.of(StudyCafePassType.FIXED, 4, 250000, 1000);
+        StudyCafeLockerPass lockerPass = StudyCafeLockerPass.of(StudyCafePassType.FIXED, 4, 10000);
+
+        // when
+        PassOrderPrice price = pricingEngine.price(PassOrder.of(pass, lockerPass));
+
+        // then
+        assertThat(price.getDiscountPrice()).isEqualTo(25000);
+        assertThat(price.getLockerPrice()).isEqualTo(10000);
+        assertThat(price.getTotalPrice()).isEqualTo(235000);
+    }
+
+    @Test
+    void 이용권과_사물함_금액을_더해_int_범위를_넘어도_결제_금액이_넘치지_않는다() {
+        // given
+        StudyCafePass pass = StudyCafePass.of(StudyCafePassType.FIXED, 4, Integer.MAX_VALUE, 0);
+        StudyCafeLockerPass lockerPass = StudyCafeLockerPass.of(StudyCafePassType.FIXED, 4, 10000);
+
+        // when
+        PassOrderPrice price = pricingEngine.price(PassOrder.of(pass, lockerPass));
+
+        // then
+        assertThat(price.getTotalPrice()).isEqualTo(Integer.MAX_VALUE + 10000L);
+    }
+
+    @Test
+    void 주문_묶음을_나눠서_계산해도_하나씩_계산한_결과와_같다() {
+        // given
+        SplittableRandom random = new SplittableRandom(7);
+        List<PassOrder> orders = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            StudyCafePass pass = StudyCafePass.of(StudyCafePassType.FIXED, 4, random.nextInt(1, 2_000_000), random.nextInt(0, 10_001));
+            orders.add(random.nextBoolean()
+                ? PassOrder.of(pass, StudyCafeLockerPass.of(StudyCafePassType.FIXED, 4, random.nextInt(0, 50_000)))
+                : PassOrder.of(pass));
+        }
+
+        // when
+        PassOrderPriceBatch sequential = pricingEngine.priceAll(orders);
+        PassOrderPriceBatch parallel = pricingEngine.priceAllInParallel(orders);
+
+        // then
+        assertThat(parallel.getTotalPrice()).isEqualTo(sequential.getTotalPrice());
+        assertThat(parallel.getTotalDiscountPrice()).isEqualTo(sequential.getTotalDiscountPrice());
+        for (int i = 0; i < orders.size(); i++) {
+            assertThat(parallel.getPriceAt(i)).isEqualTo(pricingEngine.price(orders.get(i)));
+        }
+    }
+
+    private PassOrderPrice priceOf(int price, int discountBasisPoints) {
+        return pricingEngine.price(PassOrder.of(StudyCafePass.of(StudyCafePassType.WEEKLY, 1, price, discountBasisPoints)));
+    }
+}